@@ -0,0 +1,84 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.annotations.OptionalParam;
+import io.github.thecodinglog.methodinvoker.annotations.ParameterQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding the arguments of a method whose parameter is bound by each strategy of the default pipeline.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentBinderBenchmark {
+    @Param({"qualifier", "name", "type", "json", "optional"})
+    public String strategy;
+
+    private final MethodArgumentBinder binder = new TypeMatchableMethodArgumentBinder();
+    private MethodOrConstructor methodOrConstructor;
+    private SingleLevelContext context;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        context = new SingleLevelContext();
+        context.add("qualified", new TypeDescribableObject("qualified"));
+        context.add("name", new TypeDescribableObject("name"));
+        context.add("number", new TypeDescribableObject(1L));
+        context.add("item", new TypeDescribableObject("{\"id\":\"1\"}"));
+        context.addOptionalParameter("absent");
+        methodOrConstructor = new MethodOrConstructor(Target.class.getMethod(strategy, parameterType()));
+    }
+
+    private Class<?> parameterType() {
+        switch (strategy) {
+            case "type":
+                return Long.class;
+            case "json":
+                return Item.class;
+            default:
+                return String.class;
+        }
+    }
+
+    @Benchmark
+    public PrioritizableMethodOrConstructorHolder bind() {
+        return binder.bind(methodOrConstructor, context);
+    }
+
+    public static class Target {
+        public void qualifier(@ParameterQualifier("qualified") String value) {
+        }
+
+        public void name(String name) {
+        }
+
+        public void type(Long anyName) {
+        }
+
+        public void json(Item item) {
+        }
+
+        public void optional(@OptionalParam String absent) {
+        }
+    }
+
+    public static class Item {
+        private String id;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selecting candidate methods of a class with many overloads.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateMethodsSelectorBenchmark {
+    private final CandidateMethodsSelector selector = new PublicCandidateMethodsSelector();
+
+    @Benchmark
+    public Method[] selectOverloads() {
+        return selector.select(ManyOverloads.class, "call");
+    }
+
+    @Benchmark
+    public Method[] selectSingleMethod() {
+        return selector.select(ManyOverloads.class, "single");
+    }
+
+    public static class ManyOverloads {
+        public void call() {
+        }
+
+        public void call(String a) {
+        }
+
+        public void call(Integer a) {
+        }
+
+        public void call(Long a) {
+        }
+
+        public void call(String a, String b) {
+        }
+
+        public void call(String a, Integer b) {
+        }
+
+        public void call(Integer a, Integer b) {
+        }
+
+        public void call(Long a, Long b) {
+        }
+
+        public void call(String a, String b, String c) {
+        }
+
+        public void call(String a, Integer b, Long c) {
+        }
+
+        public void call(Integer a, Integer b, Integer c) {
+        }
+
+        public void call(String a, String b, String c, String d) {
+        }
+
+        public void call(Integer a, Integer b, Integer c, Integer d) {
+        }
+
+        public void call(String a, String b, String c, String d, String e) {
+        }
+
+        public void call(Integer a, Integer b, Integer c, Integer d, Integer e) {
+        }
+
+        public void call(String a, String b, String c, String d, String e, String f) {
+        }
+
+        public void single(String a) {
+        }
+    }
+}
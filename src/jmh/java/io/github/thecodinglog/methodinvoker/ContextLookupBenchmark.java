@@ -0,0 +1,67 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up a value by key and by type in contexts of different sizes.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextLookupBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private Context singleLevelContext;
+    private Context typeIndexedContext;
+    private String lastKey;
+
+    @Setup
+    public void setUp() {
+        singleLevelContext = new SingleLevelContext();
+        typeIndexedContext = new TypeIndexedContext();
+        for (int i = 0; i < size - 1; i++) {
+            singleLevelContext.add("key" + i, new TypeDescribableObject(i));
+            typeIndexedContext.add("key" + i, new TypeDescribableObject(i));
+        }
+        lastKey = "key" + (size - 1);
+        singleLevelContext.add(lastKey, new TypeDescribableObject(new Unique()));
+        typeIndexedContext.add(lastKey, new TypeDescribableObject(new Unique()));
+    }
+
+    @Benchmark
+    public TypeDescribableObject singleLevelByKey() {
+        return singleLevelContext.getValueByKey(lastKey);
+    }
+
+    @Benchmark
+    public TypeDescribableObject singleLevelByType() {
+        return singleLevelContext.getOneValueByType(Unique.class);
+    }
+
+    @Benchmark
+    public TypeLookup singleLevelLookupMissingType() {
+        return singleLevelContext.lookupByType(String.class);
+    }
+
+    @Benchmark
+    public TypeDescribableObject typeIndexedByType() {
+        return typeIndexedContext.getOneValueByType(Unique.class);
+    }
+
+    @Benchmark
+    public TypeLookup typeIndexedLookupMissingType() {
+        return typeIndexedContext.lookupByType(String.class);
+    }
+
+    public static class Unique {
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end invocations compared with a direct call and with Spring's {@link org.springframework.util.MethodInvoker}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private final StrictMethodInvoker methodInvoker = new StrictMethodInvoker();
+    private final MethodInvoker listenedInvoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+            ArgumentBindingPipeline.defaults(), new ClassLoadingCache(), InstanceScopes.annotated(),
+            new ResolutionFailureCache(), new LatencyHistogramListener());
+    private final Greeter greeter = new Greeter();
+    private Context context;
+    private List<Context> batch;
+    private PreparedInvocation prepared;
+    private org.springframework.util.MethodInvoker springInvoker;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("name"));
+        context.add("count", new TypeDescribableObject(1));
+        prepared = methodInvoker.prepare(Greeter.class, "greet", context);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Context each = new SingleLevelContext();
+            each.add("name", new TypeDescribableObject("name" + i));
+            each.add("count", new TypeDescribableObject(i));
+            batch.add(each);
+        }
+
+        springInvoker = new org.springframework.util.MethodInvoker();
+        springInvoker.setTargetObject(greeter);
+        springInvoker.setTargetMethod("greet");
+        springInvoker.setArguments("name", 1);
+        springInvoker.prepare();
+    }
+
+    @Benchmark
+    public String direct() {
+        return greeter.greet("name", 1);
+    }
+
+    @Benchmark
+    public Object invokeObject() {
+        return methodInvoker.invoke(greeter, "greet", context).getObject();
+    }
+
+    @Benchmark
+    public Object invokeClass() {
+        return methodInvoker.invoke(Greeter.class, "greet", context).getObject();
+    }
+
+    @Benchmark
+    public Object invokeClassWithListener() {
+        return listenedInvoker.invoke(Greeter.class, "greet", context).getObject();
+    }
+
+    @Benchmark
+    public Object invokeClassName() {
+        return methodInvoker.invoke(Greeter.class.getName(), "greet", context).getObject();
+    }
+
+    @Benchmark
+    public Object invokePrepared() {
+        return prepared.invoke(context).getObject();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void invokeAllClass(Blackhole blackhole) {
+        methodInvoker.invokeAll(Greeter.class, "greet", batch, blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void invokeClassForEach(Blackhole blackhole) {
+        for (Context each : batch) {
+            blackhole.consume(methodInvoker.invoke(Greeter.class, "greet", each));
+        }
+    }
+
+    @Benchmark
+    public Object springPrepared() throws Exception {
+        return springInvoker.invoke();
+    }
+
+    @Benchmark
+    public Object springPerCall() throws Exception {
+        org.springframework.util.MethodInvoker invoker = new org.springframework.util.MethodInvoker();
+        invoker.setTargetObject(greeter);
+        invoker.setTargetMethod("greet");
+        invoker.setArguments(context.getValueByKey("name").getObject(), context.getValueByKey("count").getObject());
+        invoker.prepare();
+        return invoker.invoke();
+    }
+
+    public static class Greeter {
+        public String greet(String name, int count) {
+            return count == 1 ? name : name + count;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a request context over shared values, by copying them into a new context or by layering over them,
+ * and then looking up a shared value by type and taking the shape as an invocation does.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayeredContextBenchmark {
+    @Param({"10", "100"})
+    public int size;
+
+    private ConcurrentContext shared;
+    private String[] sharedKeys;
+    private TypeDescribableObject[] sharedValues;
+
+    @Setup
+    public void setUp() {
+        shared = new ConcurrentContext();
+        sharedKeys = new String[size];
+        sharedValues = new TypeDescribableObject[size];
+        for (int i = 0; i < size - 1; i++) {
+            sharedKeys[i] = "key" + i;
+            sharedValues[i] = new TypeDescribableObject(i);
+        }
+        sharedKeys[size - 1] = "unique";
+        sharedValues[size - 1] = new TypeDescribableObject(new Unique());
+        for (int i = 0; i < size; i++) {
+            shared.add(sharedKeys[i], sharedValues[i]);
+        }
+        shared.shape();
+    }
+
+    @Benchmark
+    public ContextShape copyIntoTypeIndexedContext() {
+        Context context = new TypeIndexedContext();
+        for (int i = 0; i < size; i++) {
+            context.add(sharedKeys[i], sharedValues[i]);
+        }
+        addRequestValues(context);
+        context.getOneValueByType(Unique.class);
+        return context.shape();
+    }
+
+    @Benchmark
+    public ContextShape layerOverConcurrentContext() {
+        Context context = new LayeredContext(shared);
+        addRequestValues(context);
+        context.getOneValueByType(Unique.class);
+        return context.shape();
+    }
+
+    private void addRequestValues(Context context) {
+        context.add("orderId", new TypeDescribableObject("order-1"));
+        context.add("quantity", new TypeDescribableObject(3L));
+    }
+
+    public static class Unique {
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating objects by class and by class name.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectFactoryBenchmark {
+    private final ObjectFactory objectFactory = new DefaultObjectFactory();
+    private Context context;
+
+    @Setup
+    public void setUp() {
+        context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("name"));
+        context.add("count", new TypeDescribableObject(1));
+    }
+
+    @Benchmark
+    public Object createByClass() {
+        return objectFactory.createObject(Service.class, context);
+    }
+
+    @Benchmark
+    public Object createByClassName() {
+        return objectFactory.createObject(Service.class.getName(), context);
+    }
+
+    @Benchmark
+    public Object createDirectly() {
+        return new Service("name", 1);
+    }
+
+    public static class Service {
+        private final String name;
+        private final int count;
+
+        public Service() {
+            this(null, 0);
+        }
+
+        public Service(String name) {
+            this(name, 0);
+        }
+
+        public Service(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable chain of {@link MethodArgumentBindingStrategy} tried in order for each parameter.
+ * <p>
+ * The first strategy that returns {@link BindingStatus#BOUND} binds the parameter.
+ * If a strategy returns {@link BindingStatus#FAILED}, the parameter cannot be bound and no more strategy is tried.
+ * <p>
+ * {@link #defaults()} tries the parameter qualifier, the parameter name, the parameter type, json of the parameter
+ * name and the optional parameter names in order. A pipeline is changed by creating a new one, for example,
+ * {@code ArgumentBindingPipeline.defaults().without(ParameterNameAndJsonMethodArgumentBindingStrategy.class)}
+ * does not convert json strings.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ArgumentBindingPipeline {
+    private static final ArgumentBindingPipeline DEFAULTS = new ArgumentBindingPipeline(
+            new MethodArgumentBindingStrategy[]{
+                    new ParameterQualifierMethodArgumentBindingStrategy(),
+                    new ParameterNameMethodArgumentBindingStrategy(),
+                    new ParameterTypeMethodArgumentBindingStrategy(),
+                    new ParameterNameAndJsonMethodArgumentBindingStrategy(),
+                    new OptionalMethodArgumentBindingStrategy()
+            });
+
+    private final MethodArgumentBindingStrategy[] strategies;
+
+    private ArgumentBindingPipeline(MethodArgumentBindingStrategy[] strategies) {
+        this.strategies = strategies;
+    }
+
+    /**
+     * @return pipeline of the default strategies
+     */
+    public static ArgumentBindingPipeline defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Create the pipeline of the specified strategies in order.
+     *
+     * @param strategies strategies to try in order
+     * @return pipeline of the strategies
+     * @throws IllegalArgumentException if any strategy is {@code null}
+     */
+    public static ArgumentBindingPipeline of(MethodArgumentBindingStrategy... strategies) {
+        MethodArgumentBindingStrategy[] copied = strategies.clone();
+        for (MethodArgumentBindingStrategy strategy : copied) {
+            if (strategy == null)
+                throw new IllegalArgumentException("Strategy cannot be null.");
+        }
+        return new ArgumentBindingPipeline(copied);
+    }
+
+    /**
+     * Create the pipeline with the strategy added at the end.
+     *
+     * @param strategy strategy to add
+     * @return new pipeline
+     */
+    public ArgumentBindingPipeline with(MethodArgumentBindingStrategy strategy) {
+        List<MethodArgumentBindingStrategy> list = new ArrayList<>(Arrays.asList(strategies));
+        list.add(strategy);
+        return of(list.toArray(new MethodArgumentBindingStrategy[0]));
+    }
+
+    /**
+     * Create the pipeline with the strategy added before the first strategy of the specified type.
+     *
+     * @param type     type of the strategy to add before
+     * @param strategy strategy to add
+     * @return new pipeline
+     * @throws IllegalArgumentException if no strategy of the type exists
+     */
+    public ArgumentBindingPipeline withBefore(Class<? extends MethodArgumentBindingStrategy> type,
+                                              MethodArgumentBindingStrategy strategy) {
+        List<MethodArgumentBindingStrategy> list = new ArrayList<>(Arrays.asList(strategies));
+        for (int i = 0; i < list.size(); i++) {
+            if (type.isInstance(list.get(i))) {
+                list.add(i, strategy);
+                return of(list.toArray(new MethodArgumentBindingStrategy[0]));
+            }
+        }
+        throw new IllegalArgumentException("No strategy of [" + type.getName() + "] exists.");
+    }
+
+    /**
+     * Create the pipeline without the strategies of the specified type.
+     *
+     * @param type type of the strategies to remove
+     * @return new pipeline
+     */
+    public ArgumentBindingPipeline without(Class<? extends MethodArgumentBindingStrategy> type) {
+        List<MethodArgumentBindingStrategy> list = new ArrayList<>(strategies.length);
+        for (MethodArgumentBindingStrategy strategy : strategies) {
+            if (!type.isInstance(strategy))
+                list.add(strategy);
+        }
+        return new ArgumentBindingPipeline(list.toArray(new MethodArgumentBindingStrategy[0]));
+    }
+
+    /**
+     * @return strategies in order
+     */
+    public List<MethodArgumentBindingStrategy> strategies() {
+        return Collections.unmodifiableList(Arrays.asList(strategies));
+    }
+
+    /**
+     * Try the strategies in order for the parameter.
+     *
+     * @param parameterAndArgumentHolder parameter to bind
+     * @param context                    context to find the argument
+     * @param recorder                   recorder to report skipping by value
+     * @param executable                 method or constructor of the parameter, for {@link BindingTracer}
+     * @param index                      index of the parameter, for {@link BindingTracer}
+     * @return strategy that bound the parameter. {@code null} if not bound
+     */
+    MethodArgumentBindingStrategy bind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context,
+                                       BindingRecorder recorder, Executable executable, int index) {
+        for (MethodArgumentBindingStrategy strategy : strategies) {
+            BindingStatus status = strategy.tryBind(parameterAndArgumentHolder, context);
+            BindingTracer.strategy(strategy, executable, index, status);
+            switch (status) {
+                case BOUND:
+                    return strategy;
+                case SKIPPED_BY_VALUE:
+                    recorder.skippedByValue();
+                    break;
+                case FAILED:
+                    return null;
+                default:
+                    break;
+            }
+        }
+        return null;
+    }
+}
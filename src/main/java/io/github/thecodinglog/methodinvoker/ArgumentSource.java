@@ -0,0 +1,114 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Type;
+
+/**
+ * Describes where in the context the argument of a parameter comes from.
+ * <p>
+ * It is given by {@link MethodArgumentBindingStrategy#sourceOf} for a bound parameter
+ * so that a resolved method can be invoked again by fetching only the values from another context of the same
+ * {@link ContextShape}.
+ * <p>
+ * A source is value dependent when whether it binds depends on the value itself, not only on the shape.
+ * Resolution results that consulted a value dependent source are not reusable.
+ * <p>
+ * A custom strategy describes its source by one of the factories, if it takes the argument as one of them does.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ArgumentSource {
+    private static final ArgumentSource OPTIONAL = new ArgumentSource(Kind.OPTIONAL, null, null);
+
+    private final Kind kind;
+    private final String key;
+    private final Type type;
+
+    private ArgumentSource(Kind kind, String key, Type type) {
+        this.kind = kind;
+        this.key = key;
+        this.type = type;
+    }
+
+    /**
+     * @param key context key of the argument
+     * @return source that looks up the argument by the key
+     */
+    public static ArgumentSource key(String key) {
+        return new ArgumentSource(Kind.KEY, key, null);
+    }
+
+    /**
+     * @param type type of the argument
+     * @return source that looks up the only argument of the type
+     */
+    public static ArgumentSource type(Type type) {
+        return new ArgumentSource(Kind.TYPE, null, type);
+    }
+
+    /**
+     * @param key context key of the json string
+     * @return source that converts the json string of the key
+     */
+    public static ArgumentSource json(String key) {
+        return new ArgumentSource(Kind.JSON, key, null);
+    }
+
+    /**
+     * @return source of an optional parameter that is not in the context
+     */
+    public static ArgumentSource optional() {
+        return OPTIONAL;
+    }
+
+    /**
+     * Resolve a type source to the key of the value found in the context, so that it is fetched by the key.
+     * The same key is found in every context of the same shape.
+     *
+     * @param context the context the source was reported from
+     * @return source that fetches by the resolved key, or this source if there is no key to resolve
+     */
+    ArgumentSource resolve(Context context) {
+        if (kind != Kind.TYPE || key != null)
+            return this;
+        String foundKey = TypeLookup.of(context, type).key();
+        return foundKey == null ? this : new ArgumentSource(Kind.TYPE, foundKey, type);
+    }
+
+    boolean isValueDependent() {
+        return kind == Kind.JSON;
+    }
+
+    /**
+     * Fetch the argument from the context.
+     *
+     * @param context       the context of the same shape with the one the source was reported from
+     * @param parameterType type of the parameter
+     * @return argument. If the parameter is primitive, the default value is returned instead of {@code null}
+     * @throws IllegalStateException if the source is value dependent
+     */
+    Object fetch(Context context, Class<?> parameterType) {
+        Object argument;
+        switch (kind) {
+            case KEY:
+                argument = context.getValueByKey(key).getObject();
+                break;
+            case TYPE:
+                argument = key != null ? context.getValueByKey(key).getObject()
+                        : context.getOneValueByType(type).getObject();
+                break;
+            case OPTIONAL:
+                argument = null;
+                break;
+            default:
+                throw new IllegalStateException("Value dependent source can not be fetched. : " + kind);
+        }
+        if (argument == null && parameterType.isPrimitive())
+            return PrioritizableMethodOrConstructorHolder.defaultValueOfPrimitiveType(parameterType);
+        return argument;
+    }
+
+    private enum Kind {
+        KEY, TYPE, JSON, OPTIONAL
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Thread safe memo of assignability between two types.
+ * <p>
+ * A result is kept with a class that the types refer to through {@link ClassValue}.
+ * It is kept only when all classes the types refer to are defined by a single class loader or the bootstrap loader,
+ * so a result never keeps a class loader alive longer than its own classes do.
+ * Results of other pairs are not cached.
+ * <p>
+ * Each class keeps at most {@link #MAX_RESULTS_PER_CLASS} results. When it is full, new results are not cached.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class AssignabilityCache {
+    static final int MAX_RESULTS_PER_CLASS = 256;
+
+    private final ClassValue<ConcurrentMap<Key, Boolean>> results = new ClassValue<ConcurrentMap<Key, Boolean>>() {
+        @Override
+        protected ConcurrentMap<Key, Boolean> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @param lhsType    the target type
+     * @param rhsType    the value type
+     * @param assignable computes the result if not cached
+     * @return if the target type is assignable from the value type
+     */
+    boolean isAssignable(Type lhsType, Type rhsType, BiPredicate<Type, Type> assignable) {
+        Anchor anchor = new Anchor();
+        if (!anchor.visit(lhsType) || !anchor.visit(rhsType) || anchor.clazz == null)
+            return assignable.test(lhsType, rhsType);
+
+        ConcurrentMap<Key, Boolean> map = results.get(anchor.clazz);
+        Key key = new Key(lhsType, rhsType);
+        Boolean result = map.get(key);
+        if (result == null) {
+            result = assignable.test(lhsType, rhsType);
+            if (map.size() < MAX_RESULTS_PER_CLASS)
+                map.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds a class to keep results with, while checking the class loaders of all classes the types refer to.
+     */
+    private static final class Anchor {
+        private Class<?> clazz;
+        private ClassLoader classLoader;
+
+        /**
+         * @param type to visit
+         * @return {@code false} if the type cannot be cached
+         */
+        private boolean visit(Type type) {
+            if (type instanceof Class) {
+                return visit((Class<?>) type);
+            } else if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                if (!visit(parameterizedType.getRawType()))
+                    return false;
+                if (parameterizedType.getOwnerType() != null && !visit(parameterizedType.getOwnerType()))
+                    return false;
+                return visitAll(parameterizedType.getActualTypeArguments());
+            } else if (type instanceof GenericArrayType) {
+                return visit(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                WildcardType wildcardType = (WildcardType) type;
+                return visitAll(wildcardType.getUpperBounds()) && visitAll(wildcardType.getLowerBounds());
+            } else if (type instanceof TypeVariable) {
+                GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+                if (declaration instanceof Class)
+                    return visit((Class<?>) declaration);
+                else if (declaration instanceof Executable)
+                    return visit(((Executable) declaration).getDeclaringClass());
+            }
+            return false;
+        }
+
+        private boolean visitAll(Type[] types) {
+            for (Type type : types) {
+                if (!visit(type))
+                    return false;
+            }
+            return true;
+        }
+
+        private boolean visit(Class<?> type) {
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            ClassLoader loader = type.getClassLoader();
+            if (clazz == null) {
+                clazz = type;
+                classLoader = loader;
+            } else if (loader != null) {
+                if (classLoader == null) {
+                    clazz = type;
+                    classLoader = loader;
+                } else if (classLoader != loader) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Key {
+        private final Type lhsType;
+        private final Type rhsType;
+
+        private Key(Type lhsType, Type rhsType) {
+            this.lhsType = lhsType;
+            this.rhsType = rhsType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return lhsType.equals(key.lhsType) && rhsType.equals(key.rhsType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lhsType.hashCode() + rhsType.hashCode();
+        }
+    }
+}
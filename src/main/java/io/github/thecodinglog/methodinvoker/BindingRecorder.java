@@ -0,0 +1,58 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * Collects what happened while binding candidates of a single resolution,
+ * beyond the result returned by {@link MethodArgumentBinder}.
+ * <p>
+ * Not thread safe. Use one recorder per resolution.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class BindingRecorder {
+    private final InvocationTrace trace;
+    private boolean valueDependent;
+
+    BindingRecorder() {
+        this(null);
+    }
+
+    /**
+     * @param trace trace of the invocation the resolution belongs to. nullable
+     */
+    BindingRecorder(InvocationTrace trace) {
+        this.trace = trace;
+    }
+
+    /**
+     * @return trace of the invocation to time the phases of the resolution. {@code null} if not traced
+     */
+    InvocationTrace trace() {
+        return trace;
+    }
+
+    /**
+     * Record the source consulted for a parameter.
+     * A strategy that cannot describe its source may have bound by the value, so {@code null} is value dependent.
+     *
+     * @param source consulted source. nullable
+     */
+    void consulted(ArgumentSource source) {
+        if (source == null || source.isValueDependent())
+            valueDependent = true;
+    }
+
+    /**
+     * Record that a parameter was skipped because of a value in the context, not of its type.
+     */
+    void skippedByValue() {
+        valueDependent = true;
+    }
+
+    /**
+     * @return {@code true} if any value dependent source was consulted
+     */
+    boolean isValueDependent() {
+        return valueDependent;
+    }
+}
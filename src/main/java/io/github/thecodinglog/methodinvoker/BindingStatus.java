@@ -0,0 +1,27 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * Result of a {@link MethodArgumentBindingStrategy} for a parameter.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public enum BindingStatus {
+    /**
+     * The argument is accepted by the parameter.
+     */
+    BOUND,
+    /**
+     * The strategy does not apply to the parameter. The next strategy is tried.
+     */
+    SKIPPED,
+    /**
+     * The strategy does not apply to the parameter because of the value itself, not of its type.
+     * The next strategy is tried, but the resolution cannot be reused for other values.
+     */
+    SKIPPED_BY_VALUE,
+    /**
+     * The parameter cannot be bound. No more strategy is tried.
+     */
+    FAILED
+}
@@ -0,0 +1,230 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records the binding decisions of method and constructor resolutions into a ring buffer of each thread.
+ * <p>
+ * It is disabled by default, and then recording is a single volatile read.
+ * Enable it by {@link #enable()} or by setting the system property {@value #PROPERTY} to {@code true}.
+ * While enabled, each candidate, each strategy tried for a parameter and its {@link BindingStatus},
+ * each parameter that could not be bound and each selected method or constructor are recorded
+ * as the method or constructor, the parameter index, the strategy class and the status.
+ * Arguments are never kept, and names and types are read from the method or constructor when {@link #dump()} is called.
+ * Each thread keeps the last {@link #CAPACITY} events, and {@link #disable()} discards the events of all threads.
+ *
+ * <pre>{@code
+ * BindingTracer.enable();
+ * try {
+ *     methodInvoker.invoke(OrderManager.class, "cancelOrder", context);
+ * } catch (MethodInvokeException e) {
+ *     BindingTracer.dump().forEach(System.out::println);
+ * }
+ * }</pre>
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class BindingTracer {
+    /**
+     * System property to enable tracing when this class is initialized. Disabled by default.
+     */
+    public static final String PROPERTY = "methodinvoker.trace.binding";
+    /**
+     * Number of the latest events kept for each thread.
+     */
+    public static final int CAPACITY = 256;
+
+    private static final byte CANDIDATE = 1;
+    private static final byte STRATEGY = 2;
+    private static final byte UNBOUND = 3;
+    private static final byte SELECTED = 4;
+    private static final Queue<WeakReference<Ring>> ALL_RINGS = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Ring> RINGS = ThreadLocal.withInitial(BindingTracer::newRing);
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private BindingTracer() {
+    }
+
+    /**
+     * Start recording binding decisions in all threads.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stop recording binding decisions, and discard the events recorded in all threads,
+     * so that no method, constructor or strategy class is kept by pooled threads.
+     */
+    public static void disable() {
+        enabled = false;
+        for (WeakReference<Ring> reference : ALL_RINGS) {
+            Ring ring = reference.get();
+            if (ring != null)
+                ring.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if binding decisions are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Format the events recorded in the current thread.
+     *
+     * @return descriptions of the events from the oldest. Empty if nothing is recorded
+     */
+    public static List<String> dump() {
+        return RINGS.get().dump();
+    }
+
+    /**
+     * Discard the events recorded in the current thread.
+     */
+    public static void clear() {
+        RINGS.get().clear();
+    }
+
+    /**
+     * @param candidate method or constructor whose parameters are about to be bound
+     */
+    static void candidate(Executable candidate) {
+        if (enabled)
+            RINGS.get().add(CANDIDATE, candidate, -1, null, null);
+    }
+
+    /**
+     * @param strategy   strategy tried for the parameter
+     * @param executable method or constructor of the parameter
+     * @param index      index of the parameter
+     * @param status     result of the strategy
+     */
+    static void strategy(MethodArgumentBindingStrategy strategy, Executable executable, int index,
+                         BindingStatus status) {
+        if (enabled)
+            RINGS.get().add(STRATEGY, executable, index, strategy.getClass(), status);
+    }
+
+    /**
+     * @param executable method or constructor of the parameter
+     * @param index      index of the parameter that no strategy could bind
+     */
+    static void unbound(Executable executable, int index) {
+        if (enabled)
+            RINGS.get().add(UNBOUND, executable, index, null, null);
+    }
+
+    /**
+     * @param selected method or constructor picked among the candidates
+     */
+    static void selected(Executable selected) {
+        if (enabled)
+            RINGS.get().add(SELECTED, selected, -1, null, null);
+    }
+
+    private static Ring newRing() {
+        ALL_RINGS.removeIf(reference -> reference.get() == null);
+        Ring ring = new Ring();
+        ALL_RINGS.add(new WeakReference<>(ring));
+        return ring;
+    }
+
+    private static String parameterName(Executable executable, int index) {
+        String[] names = executable instanceof Method
+                ? CachingParameterNameDiscoverer.getInstance().getParameterNames((Method) executable)
+                : CachingParameterNameDiscoverer.getInstance().getParameterNames((Constructor<?>) executable);
+        return names == null ? executable.getParameters()[index].getName() : names[index];
+    }
+
+    private static String parameterType(Executable executable, int index) {
+        return executable.getParameters()[index].getParameterizedType().getTypeName();
+    }
+
+    /**
+     * Events of a thread. The lock is only contended when {@link #disable()} clears the rings of other threads.
+     */
+    private static final class Ring {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final byte[] kinds = new byte[CAPACITY];
+        private final long[] times = new long[CAPACITY];
+        private final Executable[] executables = new Executable[CAPACITY];
+        private final int[] indexes = new int[CAPACITY];
+        private final Class<?>[] strategies = new Class<?>[CAPACITY];
+        private final BindingStatus[] statuses = new BindingStatus[CAPACITY];
+        private long count;
+
+        private void add(byte kind, Executable executable, int index, Class<?> strategy, BindingStatus status) {
+            lock.lock();
+            try {
+                int i = (int) (count++ % CAPACITY);
+                kinds[i] = kind;
+                times[i] = System.nanoTime();
+                executables[i] = executable;
+                indexes[i] = index;
+                strategies[i] = strategy;
+                statuses[i] = status;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                Arrays.fill(executables, null);
+                Arrays.fill(strategies, null);
+                Arrays.fill(statuses, null);
+                count = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<String> dump() {
+            lock.lock();
+            try {
+                int size = (int) Math.min(count, CAPACITY);
+                List<String> lines = new ArrayList<>(size);
+                long first = count - size;
+                for (long n = first; n < count; n++) {
+                    int i = (int) (n % CAPACITY);
+                    long elapsed = times[i] - times[(int) (first % CAPACITY)];
+                    lines.add(String.format("+%dns %s", elapsed, describe(i)));
+                }
+                return lines;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private String describe(int i) {
+            Executable executable = executables[i];
+            switch (kinds[i]) {
+                case CANDIDATE:
+                    return String.format("Try binding for [%s]", executable.toGenericString());
+                case STRATEGY:
+                    return String.format("Strategy [%s], Param name [%s], Param type [%s] : %s",
+                            strategies[i].getSimpleName(), parameterName(executable, indexes[i]),
+                            parameterType(executable, indexes[i]), statuses[i]);
+                case UNBOUND:
+                    return String.format("Can't bind parameter [%s][%s]", parameterName(executable, indexes[i]),
+                            parameterType(executable, indexes[i]));
+                default:
+                    return String.format("Selected [%s]", executable.toGenericString());
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.springframework.cglib.reflect.FastClass;
+import org.springframework.cglib.reflect.FastConstructor;
+import org.springframework.cglib.reflect.FastMethod;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link InvocationEngine} that invokes hot methods and constructors through generated bytecode.
+ * <p>
+ * A method or constructor is invoked through {@link MethodHandleInvocationEngine} at first.
+ * After it is invoked as many times as the inflation threshold,
+ * it is invoked through a class generated for the declaring class by {@link FastClass}.
+ * The generated class calls the target directly with a cast per argument, so the call can be inlined by the JIT.
+ * <p>
+ * Only public members of public classes are generated. Others, or the ones failed to generate,
+ * keep using {@link MethodHandleInvocationEngine}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class BytecodeInvocationEngine implements InvocationEngine {
+    /**
+     * Default number of invocations after which the bytecode is generated.
+     */
+    public static final int DEFAULT_INFLATION_THRESHOLD = 16;
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(BytecodeInvocationEngine.class);
+    private final InvocationEngine interpreter = new MethodHandleInvocationEngine();
+    private final InvocableCache invocables = new InvocableCache();
+    private final int inflationThreshold;
+    private final ClassValue<FastClass> fastClasses = new ClassValue<FastClass>() {
+        @Override
+        protected FastClass computeValue(Class<?> type) {
+            try {
+                // With the context class, the class is defined through a private lookup of the type on Java 9 or later,
+                // which works without opening java.lang to ClassLoader#defineClass.
+                FastClass.Generator generator = new FastClass.Generator();
+                generator.setType(type);
+                generator.setContextClass(type);
+                return generator.create();
+            } catch (RuntimeException | LinkageError e) {
+                log.debug("Failed to generate fast class of [{}].", type.getName(), e);
+                return null;
+            }
+        }
+    };
+
+    /**
+     * Create the engine with {@link #DEFAULT_INFLATION_THRESHOLD}.
+     */
+    public BytecodeInvocationEngine() {
+        this(DEFAULT_INFLATION_THRESHOLD);
+    }
+
+    /**
+     * Create the engine with the specified inflation threshold.
+     *
+     * @param inflationThreshold number of invocations after which the bytecode is generated.
+     *                           If zero or less, the bytecode is generated when prepared.
+     */
+    public BytecodeInvocationEngine(int inflationThreshold) {
+        this.inflationThreshold = inflationThreshold;
+    }
+
+    @Override
+    public Invocable prepare(Method method) {
+        return invocables.get(method, m -> inflatable(m, interpreter.prepare(m), () -> generate(m)));
+    }
+
+    @Override
+    public Invocable prepare(Constructor<?> constructor) {
+        return invocables.get(constructor, c -> inflatable(c, interpreter.prepare(c), () -> generate(c)));
+    }
+
+    private Invocable inflatable(Member member, Invocable interpreted, Supplier<Invocable> generator) {
+        if (!Modifier.isPublic(member.getModifiers()) || !Modifier.isPublic(member.getDeclaringClass().getModifiers()))
+            return interpreted;
+        if (inflationThreshold <= 0) {
+            Invocable generated = generator.get();
+            return generated == null ? interpreted : generated;
+        }
+        return new InflatingInvocable(interpreted, generator, inflationThreshold);
+    }
+
+    private Invocable generate(Method method) {
+        FastClass fastClass = fastClasses.get(method.getDeclaringClass());
+        if (fastClass == null || fastClass.getIndex(method.getName(), method.getParameterTypes()) < 0)
+            return null;
+
+        FastMethod fastMethod = fastClass.getMethod(method);
+        return (target, args) -> {
+            try {
+                return fastMethod.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    private Invocable generate(Constructor<?> constructor) {
+        FastClass fastClass = fastClasses.get(constructor.getDeclaringClass());
+        if (fastClass == null || fastClass.getIndex(constructor.getParameterTypes()) < 0)
+            return null;
+
+        FastConstructor fastConstructor = fastClass.getConstructor(constructor);
+        return (target, args) -> {
+            try {
+                return fastConstructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    /**
+     * Invokes the interpreted one until the threshold, and then the generated one.
+     */
+    private static final class InflatingInvocable implements Invocable {
+        private final Invocable interpreted;
+        private final Supplier<Invocable> generator;
+        private final int threshold;
+        private final ReentrantLock inflateLock = new ReentrantLock();
+        private volatile Invocable inflated;
+        private int invocations;
+
+        private InflatingInvocable(Invocable interpreted, Supplier<Invocable> generator, int threshold) {
+            this.interpreted = interpreted;
+            this.generator = generator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public Object invoke(Object target, Object[] args) throws Throwable {
+            Invocable current = inflated;
+            if (current == null) {
+                // Counted without synchronization. It only has to tell whether the target is hot.
+                if (++invocations < threshold)
+                    return interpreted.invoke(target, args);
+                current = inflate();
+            }
+            return current.invoke(target, args);
+        }
+
+        private Invocable inflate() {
+            inflateLock.lock();
+            try {
+                if (inflated == null) {
+                    Invocable generated = generator.get();
+                    inflated = generated == null ? interpreted : generated;
+                }
+                return inflated;
+            } finally {
+                inflateLock.unlock();
+            }
+        }
+    }
+}
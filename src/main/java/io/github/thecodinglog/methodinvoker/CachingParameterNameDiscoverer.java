@@ -0,0 +1,82 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ParameterNameDiscoverer} that discovers parameter names of all methods and constructors of a class at once,
+ * and keeps them for the process.
+ * <p>
+ * If a class is compiled without {@code -parameters}, the names are read from the class file,
+ * which is too slow to repeat on every binding.
+ * So when a method or constructor of a class is asked first,
+ * the names of all the ones declared in the class are discovered with a {@link DefaultParameterNameDiscoverer}.
+ * <p>
+ * The names are kept with the declaring class through {@link ClassValue},
+ * so they do not prevent the class from unloading.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+    private static final CachingParameterNameDiscoverer INSTANCE = new CachingParameterNameDiscoverer();
+    private static final String[] UNKNOWN = new String[0];
+
+    private final ClassValue<Map<Executable, String[]>> parameterNames = new ClassValue<Map<Executable, String[]>>() {
+        @Override
+        protected Map<Executable, String[]> computeValue(Class<?> type) {
+            // A discoverer per class. The one of Spring keeps every class it has read.
+            ParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
+            Map<Executable, String[]> names = new HashMap<>();
+            try {
+                for (Method method : type.getDeclaredMethods()) {
+                    names.put(method, orUnknown(discoverer.getParameterNames(method)));
+                }
+                for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                    names.put(constructor, orUnknown(discoverer.getParameterNames(constructor)));
+                }
+            } catch (LinkageError e) {
+                // Members referring to missing classes. Those are discovered one by one.
+                return Collections.emptyMap();
+            }
+            return names;
+        }
+    };
+
+    private CachingParameterNameDiscoverer() {
+    }
+
+    /**
+     * @return discoverer shared in the process
+     */
+    static CachingParameterNameDiscoverer getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String[] getParameterNames(Method method) {
+        String[] names = parameterNames.get(method.getDeclaringClass()).get(method);
+        if (names == null)
+            return new DefaultParameterNameDiscoverer().getParameterNames(method);
+        return names == UNKNOWN ? null : names;
+    }
+
+    @Override
+    public String[] getParameterNames(Constructor<?> ctor) {
+        String[] names = parameterNames.get(ctor.getDeclaringClass()).get(ctor);
+        if (names == null)
+            return new DefaultParameterNameDiscoverer().getParameterNames(ctor);
+        return names == UNKNOWN ? null : names;
+    }
+
+    private static String[] orUnknown(String[] names) {
+        return names == null ? UNKNOWN : names;
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe cache of classes loaded by full qualified class name, like {@link Class#forName(String)}.
+ * <p>
+ * Classes are cached per class loader, so the same name loaded by different class loaders never gets mixed up.
+ * Class loaders are only weakly referenced and classes are weakly kept,
+ * so the cache does not prevent class loaders from unloading.
+ * <p>
+ * A class that is not found is also cached for the negative TTL, so looking it up again does not go through
+ * the class loader until the TTL expires. A negative TTL of {@code 0} does not cache classes that are not found.
+ * Each class loader keeps at most {@link #MAX_NAMES_PER_LOADER} names. When it is full, new names are not cached.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ClassLoadingCache {
+    /**
+     * Default TTL of classes that are not found, in milliseconds.
+     */
+    public static final long DEFAULT_NEGATIVE_TTL_MILLIS = 1000;
+    static final int MAX_NAMES_PER_LOADER = 4096;
+
+    private final long negativeTtlNanos;
+    private final ConcurrentMap<String, Entry> bootstrapEntries = new ConcurrentHashMap<>();
+    private final Map<ClassLoader, ConcurrentMap<String, Entry>> loaderEntries = new WeakHashMap<>();
+    private final ReentrantLock loaderEntriesLock = new ReentrantLock();
+    private volatile LoaderEntries lastLoaderEntries;
+
+    /**
+     * Create the cache that caches classes not found for {@link #DEFAULT_NEGATIVE_TTL_MILLIS}.
+     */
+    public ClassLoadingCache() {
+        this(DEFAULT_NEGATIVE_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create the cache that caches classes not found for the specified TTL.
+     *
+     * @param negativeTtl TTL of classes that are not found. {@code 0} to not cache them
+     * @param unit        unit of the TTL
+     * @throws IllegalArgumentException if the TTL is negative
+     */
+    public ClassLoadingCache(long negativeTtl, TimeUnit unit) {
+        if (negativeTtl < 0)
+            throw new IllegalArgumentException("Negative TTL cannot be negative. : " + negativeTtl);
+        this.negativeTtlNanos = unit.toNanos(negativeTtl);
+    }
+
+    /**
+     * Returns the class of the name loaded by the class loader of this library,
+     * as {@link Class#forName(String)} called from this library does.
+     *
+     * @param fullQualifiedClassName the full qualified class name
+     * @return class of the name
+     * @throws ClassNotFoundException if the class cannot be found
+     */
+    public Class<?> forName(String fullQualifiedClassName) throws ClassNotFoundException {
+        return forName(fullQualifiedClassName, ClassLoadingCache.class.getClassLoader());
+    }
+
+    /**
+     * Returns the class of the name loaded by the specified class loader.
+     *
+     * @param fullQualifiedClassName the full qualified class name
+     * @param classLoader            class loader to load the class. {@code null} for the bootstrap class loader
+     * @return class of the name
+     * @throws ClassNotFoundException if the class cannot be found
+     */
+    public Class<?> forName(String fullQualifiedClassName, ClassLoader classLoader) throws ClassNotFoundException {
+        ConcurrentMap<String, Entry> entries = entriesOf(classLoader);
+        Entry entry = entries.get(fullQualifiedClassName);
+        if (entry != null) {
+            Class<?> clazz = entry.clazz.get();
+            if (clazz != null)
+                return clazz;
+            if (entry.notFoundUntil != 0 && entry.notFoundUntil - System.nanoTime() > 0)
+                throw new ClassNotFoundException(fullQualifiedClassName);
+        }
+
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(fullQualifiedClassName, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            if (negativeTtlNanos > 0)
+                put(entries, fullQualifiedClassName, new Entry(null, System.nanoTime() + negativeTtlNanos));
+            throw e;
+        }
+        put(entries, fullQualifiedClassName, new Entry(clazz, 0));
+        return clazz;
+    }
+
+    private void put(ConcurrentMap<String, Entry> entries, String name, Entry entry) {
+        if (entries.size() < MAX_NAMES_PER_LOADER || entries.containsKey(name))
+            entries.put(name, entry);
+    }
+
+    private ConcurrentMap<String, Entry> entriesOf(ClassLoader classLoader) {
+        if (classLoader == null)
+            return bootstrapEntries;
+
+        // Most lookups use the same class loader, so it is checked without locking first.
+        LoaderEntries last = lastLoaderEntries;
+        if (last != null && last.classLoader.get() == classLoader)
+            return last.entries;
+
+        ConcurrentMap<String, Entry> entries;
+        loaderEntriesLock.lock();
+        try {
+            entries = loaderEntries.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>());
+        } finally {
+            loaderEntriesLock.unlock();
+        }
+        lastLoaderEntries = new LoaderEntries(classLoader, entries);
+        return entries;
+    }
+
+    private static final class LoaderEntries {
+        private final WeakReference<ClassLoader> classLoader;
+        private final ConcurrentMap<String, Entry> entries;
+
+        private LoaderEntries(ClassLoader classLoader, ConcurrentMap<String, Entry> entries) {
+            this.classLoader = new WeakReference<>(classLoader);
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry {
+        private final WeakReference<Class<?>> clazz;
+        private final long notFoundUntil;
+
+        private Entry(Class<?> clazz, long notFoundUntil) {
+            this.clazz = new WeakReference<>(clazz);
+            this.notFoundUntil = notFoundUntil;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.annotations.ConstructorQualifier;
+import io.github.thecodinglog.methodinvoker.annotations.DefaultConstructor;
+import io.github.thecodinglog.methodinvoker.annotations.DefaultMethod;
+import io.github.thecodinglog.methodinvoker.annotations.MethodQualifier;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Reflective metadata of a class that candidate selectors need, computed once per class.
+ * <p>
+ * Public methods are grouped by name, and method qualifiers, constructor qualifiers,
+ * the default method and the default constructor are looked up in advance.
+ * Candidate arrays are sorted by parameter length, many -> few.
+ * <p>
+ * Metadata is kept with the class through {@link ClassValue}, so it does not prevent the class from unloading.
+ * Methods and constructors are indexed separately when first requested.
+ * <p>
+ * Invalid declarations such as duplicate qualifiers are recorded instead of thrown,
+ * so that the selectors raise the same exceptions as before in the same situations.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class ClassMetadata {
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+    private static final Comparator<Executable> MANY_PARAMETERS_FIRST =
+            (e1, e2) -> Integer.compare(e2.getParameterCount(), e1.getParameterCount());
+
+    private final Class<?> clazz;
+    private volatile Methods methods;
+    private volatile Constructors constructors;
+
+    private ClassMetadata(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * @param clazz class to get metadata
+     * @return metadata of the class
+     */
+    static ClassMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    /**
+     * Discard the metadata of the class, so it is indexed again when asked next time.
+     *
+     * @param clazz class whose metadata has changed
+     */
+    static void invalidate(Class<?> clazz) {
+        METADATA.remove(clazz);
+    }
+
+    /**
+     * @return index of public methods
+     */
+    Methods methods() {
+        Methods m = methods;
+        if (m == null) {
+            // Racing threads may build it twice, but the result is the same and immutable.
+            m = new Methods(clazz.getMethods());
+            methods = m;
+        }
+        return m;
+    }
+
+    /**
+     * @return index of candidate constructors
+     */
+    Constructors constructors() {
+        Constructors c = constructors;
+        if (c == null) {
+            c = new Constructors(clazz);
+            constructors = c;
+        }
+        return c;
+    }
+
+    /**
+     * Index of public methods of a class.
+     */
+    static final class Methods {
+        private final boolean empty;
+        private final Method defaultMethod;
+        private final boolean tooManyDefaults;
+        private final Map<String, Method> qualifiedMethods;
+        private final String duplicateQualifier;
+        private final Map<String, Method[]> methodsByName;
+
+        private Methods(Method[] methods) {
+            this.empty = methods.length == 0;
+
+            Method defaultMethod = null;
+            boolean tooManyDefaults = false;
+            Map<String, Method> qualifiedMethods = new HashMap<>();
+            String duplicateQualifier = null;
+            Map<String, List<Method>> methodsByName = new HashMap<>();
+
+            for (Method method : methods) {
+                if (method.getAnnotation(DefaultMethod.class) != null) {
+                    if (defaultMethod != null)
+                        tooManyDefaults = true;
+                    defaultMethod = method;
+                }
+
+                String qualifier = (String) findAnnotationAndGetValue(method, MethodQualifier.class);
+                if (qualifier != null) {
+                    if (qualifiedMethods.containsKey(qualifier) && duplicateQualifier == null)
+                        duplicateQualifier = qualifier;
+                    qualifiedMethods.put(qualifier, method);
+                }
+
+                methodsByName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            }
+
+            this.defaultMethod = tooManyDefaults ? null : defaultMethod;
+            this.tooManyDefaults = tooManyDefaults;
+            this.qualifiedMethods = qualifiedMethods;
+            this.duplicateQualifier = duplicateQualifier;
+            this.methodsByName = new HashMap<>(methodsByName.size() * 2);
+            for (Map.Entry<String, List<Method>> entry : methodsByName.entrySet()) {
+                Method[] sorted = entry.getValue().toArray(new Method[0]);
+                Arrays.sort(sorted, MANY_PARAMETERS_FIRST);
+                this.methodsByName.put(entry.getKey(), sorted);
+            }
+        }
+
+        /**
+         * @return {@code true} if no public method exists
+         */
+        boolean isEmpty() {
+            return empty;
+        }
+
+        /**
+         * @return the method annotated with {@link DefaultMethod}. nullable
+         */
+        Method defaultMethod() {
+            return defaultMethod;
+        }
+
+        /**
+         * @return {@code true} if more than one method is annotated with {@link DefaultMethod}
+         */
+        boolean hasTooManyDefaults() {
+            return tooManyDefaults;
+        }
+
+        /**
+         * @param qualifier value of {@link MethodQualifier}
+         * @return the qualified method. nullable
+         */
+        Method qualifiedMethod(String qualifier) {
+            return qualifiedMethods.get(qualifier);
+        }
+
+        /**
+         * @return the first qualifier value declared more than once. nullable
+         */
+        String duplicateQualifier() {
+            return duplicateQualifier;
+        }
+
+        /**
+         * @param name method name
+         * @return methods with the name sorted by parameter length, many -> few. Shared, do not modify
+         */
+        Method[] methodsByName(String name) {
+            Method[] methods = methodsByName.get(name);
+            return methods == null ? new Method[0] : methods;
+        }
+    }
+
+    /**
+     * Index of candidate constructors of a class.
+     * <p>
+     * The candidates are public constructors,
+     * or the only constructor if it is package private and no public constructor exists.
+     */
+    static final class Constructors {
+        private final Constructor<?>[] constructors;
+        private final Constructor<?> defaultConstructor;
+        private final boolean tooManyDefaults;
+        private final Map<String, Constructor<?>> qualifiedConstructors;
+        private final String duplicateQualifier;
+
+        private Constructors(Class<?> clazz) {
+            Constructor<?>[] constructors = clazz.getConstructors();
+            if (constructors.length == 0) {
+                Constructor<?>[] declaredConstructors = clazz.getDeclaredConstructors();
+                if (declaredConstructors.length == 1 && declaredConstructors[0].getModifiers() == 0)
+                    constructors = declaredConstructors;
+            }
+            Arrays.sort(constructors, MANY_PARAMETERS_FIRST);
+            this.constructors = constructors;
+
+            Constructor<?> defaultConstructor = null;
+            boolean tooManyDefaults = false;
+            Map<String, Constructor<?>> qualifiedConstructors = new HashMap<>();
+            String duplicateQualifier = null;
+            for (Constructor<?> constructor : constructors) {
+                if (constructor.getAnnotation(DefaultConstructor.class) != null) {
+                    if (defaultConstructor != null)
+                        tooManyDefaults = true;
+                    defaultConstructor = constructor;
+                }
+
+                ConstructorQualifier annotation = constructor.getAnnotation(ConstructorQualifier.class);
+                if (annotation != null) {
+                    if (qualifiedConstructors.containsKey(annotation.value()) && duplicateQualifier == null)
+                        duplicateQualifier = annotation.value();
+                    qualifiedConstructors.put(annotation.value(), constructor);
+                }
+            }
+            this.defaultConstructor = tooManyDefaults ? null : defaultConstructor;
+            this.tooManyDefaults = tooManyDefaults;
+            this.qualifiedConstructors = qualifiedConstructors;
+            this.duplicateQualifier = duplicateQualifier;
+        }
+
+        /**
+         * @return {@code true} if no candidate constructor exists
+         */
+        boolean isEmpty() {
+            return constructors.length == 0;
+        }
+
+        /**
+         * @return candidate constructors sorted by parameter length, many -> few. Shared, do not modify
+         */
+        Constructor<?>[] constructors() {
+            return constructors;
+        }
+
+        /**
+         * @return the constructor annotated with {@link DefaultConstructor}. nullable
+         */
+        Constructor<?> defaultConstructor() {
+            return defaultConstructor;
+        }
+
+        /**
+         * @return {@code true} if more than one constructor is annotated with {@link DefaultConstructor}
+         */
+        boolean hasTooManyDefaults() {
+            return tooManyDefaults;
+        }
+
+        /**
+         * @return {@code true} if any constructor is annotated with {@link ConstructorQualifier}
+         */
+        boolean hasQualifiers() {
+            return !qualifiedConstructors.isEmpty();
+        }
+
+        /**
+         * @param qualifier value of {@link ConstructorQualifier}
+         * @return the qualified constructor. nullable
+         */
+        Constructor<?> qualifiedConstructor(String qualifier) {
+            return qualifiedConstructors.get(qualifier);
+        }
+
+        /**
+         * @return the first qualifier value declared more than once. nullable
+         */
+        String duplicateQualifier() {
+            return duplicateQualifier;
+        }
+    }
+
+    private static Object findAnnotationAndGetValue(Method method, Class<? extends Annotation> annotationType) {
+        Annotation[] declaredAnnotations = method.getDeclaredAnnotations();
+        Set<Class<? extends Annotation>> failedSet = new HashSet<>();
+
+        for (Annotation declaredAnnotation : declaredAnnotations) {
+            Method valueMethod;
+            try {
+                valueMethod = declaredAnnotation.annotationType().getMethod("value");
+            } catch (NoSuchMethodException e) {
+                failedSet.add(declaredAnnotation.annotationType());
+                continue;
+            }
+            Object value;
+            try {
+                value = valueMethod.invoke(declaredAnnotation);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                failedSet.add(declaredAnnotation.annotationType());
+                continue;
+            }
+            if (!(value instanceof String)) {
+                failedSet.add(declaredAnnotation.annotationType());
+                continue;
+            }
+
+            if (declaredAnnotation.annotationType() == annotationType)
+                return value;
+            else {
+                boolean b = hasAnnotation(declaredAnnotation, annotationType, failedSet);
+                if (b)
+                    return value;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Annotation annotation,
+                                         Class<?> annotationType,
+                                         Set<Class<? extends Annotation>> failedSet) {
+        Annotation[] declaredAnnotations = annotation.annotationType().getDeclaredAnnotations();
+
+        for (Annotation declaredAnnotation : declaredAnnotations) {
+            if (failedSet.contains(declaredAnnotation.annotationType()))
+                continue;
+            if (declaredAnnotation.annotationType() == annotationType)
+                return true;
+            failedSet.add(declaredAnnotation.annotationType());
+            boolean b = hasAnnotation(declaredAnnotation, annotationType, failedSet);
+            if (b)
+                return true;
+        }
+        return false;
+    }
+}
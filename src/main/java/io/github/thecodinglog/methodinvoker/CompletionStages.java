@@ -0,0 +1,48 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Unwraps results of methods that return {@link CompletionStage}, for asynchronous invocations.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class CompletionStages {
+    private CompletionStages() {
+    }
+
+    /**
+     * Returns the stage of the value the result completes with, without blocking.
+     * The type of the value is the type argument of the declared {@link CompletionStage} type of the result,
+     * or {@link Object} if it is unknown.
+     *
+     * @param result result of a method
+     * @return the stage completed with the value of the result if it is a {@link CompletionStage},
+     * or the stage completed with the result itself
+     */
+    static CompletionStage<TypeDescribableObject> unwrap(TypeDescribableObject result) {
+        if (!(result.getObject() instanceof CompletionStage))
+            return CompletableFuture.completedFuture(result);
+
+        Type valueType = valueTypeOf(result.getType());
+        CompletionStage<?> stage = (CompletionStage<?>) result.getObject();
+        return stage.thenApply(value -> new TypeDescribableObject(value, valueType));
+    }
+
+    private static Type valueTypeOf(Type stageType) {
+        ResolvableType valueType = stageType == null ? ResolvableType.NONE
+                : ResolvableType.forType(stageType).as(CompletionStage.class).getGeneric(0);
+        Type type = valueType.getType();
+        if (type instanceof Class || type instanceof ParameterizedType || type instanceof GenericArrayType)
+            return type;
+        Class<?> resolved = valueType.resolve();
+        return resolved != null ? resolved : Object.class;
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe single level context to be shared by many threads, finding values by type as {@link TypeIndexedContext}
+ * does.
+ * <p>
+ * Values and their type index are kept in an immutable snapshot. Reads go to the current snapshot without locking.
+ * Writes copy the snapshot under a lock and publish the copy, so a read never sees a value without its index entries.
+ * It suits contexts that are filled once and read by every request, as adding a value copies all keys.
+ * <p>
+ * Each method reads the snapshot current at the time, so values added during an invocation may be seen by a part of
+ * its binding. To bind a whole invocation against the same values, invoke with {@link #snapshot()}.
+ *
+ * @author Jeongjin Kim
+ * @see TypeIndexedContext
+ * @since 2026-10-18
+ */
+public class ConcurrentContext implements Context {
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public TypeDescribableObject getValueByKey(String key) {
+        return snapshot.getValueByKey(key);
+    }
+
+    @Override
+    public TypeDescribableObject getOneValueByType(Type type) {
+        return snapshot.getOneValueByType(type);
+    }
+
+    @Override
+    public TypeLookup lookupByType(Type type) {
+        return snapshot.lookupByType(type);
+    }
+
+    @Override
+    public boolean hasKey(String key) {
+        return snapshot.hasKey(key);
+    }
+
+    @Override
+    public boolean hasType(Type type) {
+        return snapshot.hasType(type);
+    }
+
+    @Override
+    public void add(String key, TypeDescribableObject typeDescribableObject) {
+        writeLock.lock();
+        try {
+            snapshot = snapshot.with(key, typeDescribableObject);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Add a key to the optional parameter set.
+     *
+     * @param key key
+     */
+    public void addOptionalParameter(String key) {
+        writeLock.lock();
+        try {
+            snapshot = snapshot.withOptionalParameter(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> optionalParameters() {
+        return snapshot.optionalParameters();
+    }
+
+    @Override
+    public ContextShape shape() {
+        return snapshot.shape();
+    }
+
+    /**
+     * Returns the values of this context at the moment. Values added later are not seen by the snapshot.
+     *
+     * @return immutable context. {@link Context#add(String, TypeDescribableObject)} of it throws
+     * {@link UnsupportedOperationException}
+     */
+    public Context snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Immutable values, their type index and optional parameters.
+     */
+    private static final class Snapshot implements Context {
+        private static final Snapshot EMPTY = new Snapshot(TypeIndex.EMPTY, Collections.emptySet());
+
+        private final TypeIndex index;
+        private final Set<String> optionalParameters;
+        private volatile ContextShape shape;
+
+        private Snapshot(TypeIndex index, Set<String> optionalParameters) {
+            this.index = index;
+            this.optionalParameters = optionalParameters;
+        }
+
+        @Override
+        public TypeDescribableObject getValueByKey(String key) {
+            return index.get(key);
+        }
+
+        @Override
+        public TypeDescribableObject getOneValueByType(Type type) {
+            return lookupByType(type).valueOrThrow();
+        }
+
+        @Override
+        public TypeLookup lookupByType(Type type) {
+            return index.lookup(type);
+        }
+
+        @Override
+        public boolean hasKey(String key) {
+            return index.containsKey(key);
+        }
+
+        @Override
+        public boolean hasType(Type type) {
+            return index.hasType(type);
+        }
+
+        @Override
+        public void add(String key, TypeDescribableObject typeDescribableObject) {
+            throw new UnsupportedOperationException("The snapshot of a context cannot be changed.");
+        }
+
+        @Override
+        public Set<String> optionalParameters() {
+            return optionalParameters;
+        }
+
+        @Override
+        public ContextShape shape() {
+            ContextShape current = shape;
+            if (current == null)
+                shape = current = ContextShape.of(index.values(), optionalParameters);
+            return current;
+        }
+
+        private Snapshot with(String key, TypeDescribableObject typeDescribableObject) {
+            return new Snapshot(index.with(key, typeDescribableObject), optionalParameters);
+        }
+
+        private Snapshot withOptionalParameter(String key) {
+            Set<String> newOptionalParameters = new HashSet<>(optionalParameters);
+            newOptionalParameters.add(key);
+            return new Snapshot(index, Collections.unmodifiableSet(newOptionalParameters));
+        }
+    }
+}
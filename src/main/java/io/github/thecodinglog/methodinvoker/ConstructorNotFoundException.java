@@ -1,5 +1,7 @@
 package io.github.thecodinglog.methodinvoker;
 
+import io.github.thecodinglog.methodinvoker.exceptions.StackTraceOption;
+
 /**
  * The exception is raised when failed to find constructor.
  *
@@ -13,7 +15,7 @@ final class ConstructorNotFoundException extends RuntimeException {
      * @param msg the detail message
      */
     public ConstructorNotFoundException(String msg) {
-        super(msg);
+        super(msg, null, true, StackTraceOption.isWritable());
     }
 
     /**
@@ -24,6 +26,6 @@ final class ConstructorNotFoundException extends RuntimeException {
      * @param cause the root cause
      */
     public ConstructorNotFoundException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, true, StackTraceOption.isWritable());
     }
 }
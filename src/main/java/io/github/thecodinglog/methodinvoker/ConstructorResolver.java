@@ -18,4 +18,18 @@ interface ConstructorResolver {
      * @throws ConstructorNotFoundException If there is no suitable constructor or no public constructor exists
      */
     PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, Context context);
+
+    /**
+     * Returns the constructor and arguments that best match the given context in the specified class,
+     * reporting the argument sources consulted while binding candidates.
+     * <p>
+     * See {@link #resolve(Class, Context)}
+     *
+     * @param aClass   the class to find the constructor for
+     * @param context  context of class
+     * @param recorder the recorder to report consulted argument sources to
+     * @return Immutable object with constructor and argument
+     * @throws ConstructorNotFoundException If there is no suitable constructor or no public constructor exists
+     */
+    PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, Context context, BindingRecorder recorder);
 }
@@ -56,6 +56,20 @@ public interface Context {
      */
     TypeDescribableObject getOneValueByType(Type type);
 
+    /**
+     * Looks up one value matching the specified type, like {@link #getOneValueByType(Type)},
+     * but reports a missing or ambiguous value as the status of the result instead of throwing an exception.
+     * <p>
+     * The default implementation calls {@link #hasType(Type)} and {@link #getOneValueByType(Type)}.
+     * Implementations should override it to look up without exceptions.
+     *
+     * @param type the type of value to be returned. It cannot be {@code null}
+     * @return result of the lookup
+     */
+    default TypeLookup lookupByType(Type type) {
+        return TypeLookup.byExceptions(this, type);
+    }
+
     /**
      * Returns {@code true} if this context has a mapping for the specified key.
      *
@@ -88,4 +102,15 @@ public interface Context {
     default Set<String> optionalParameters() {
         return Collections.EMPTY_SET;
     }
+
+    /**
+     * Returns the shape of this context, which is used to reuse resolution results between contexts.
+     * <p>
+     * If the context cannot describe itself, {@code null} is returned and nothing is reused.
+     *
+     * @return shape of this context. nullable
+     */
+    default ContextShape shape() {
+        return null;
+    }
 }
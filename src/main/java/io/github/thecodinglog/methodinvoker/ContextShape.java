@@ -0,0 +1,131 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Immutable description of what a {@link Context} offers for binding, without the values themselves.
+ * <p>
+ * Two contexts with equal shapes have the same keys, the same declared type for each key,
+ * the same runtime class for each value and the same optional parameter names.
+ * Since binding strategies only look at those facts, a method resolved against one context
+ * binds the same way against any other context of the same shape.
+ * <p>
+ * For a {@link List} value the class of its first element is part of the shape,
+ * because list parameters are matched by their first element.
+ * <p>
+ * The shape of a layered context is the shape of its own layer over the shape of its parent,
+ * since a value of the nearer layer hides the values of the same type in farther layers.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ContextShape {
+    /**
+     * Shape of a context with no values and no optional parameters.
+     */
+    public static final ContextShape EMPTY = new ContextShape(Collections.emptyMap(), Collections.emptySet(), null);
+
+    private final Map<String, Entry> entries;
+    private final Set<String> optionalParameters;
+    private final ContextShape parent;
+    private final int hash;
+
+    private ContextShape(Map<String, Entry> entries, Set<String> optionalParameters, ContextShape parent) {
+        this.entries = entries;
+        this.optionalParameters = optionalParameters;
+        this.parent = parent;
+        this.hash = 31 * (31 * entries.hashCode() + optionalParameters.hashCode()) + Objects.hashCode(parent);
+    }
+
+    /**
+     * Returns the shape of the given values and optional parameter names.
+     *
+     * @param values             values of the context mapped by its key
+     * @param optionalParameters optional parameter names of the context
+     * @return shape of the context
+     */
+    public static ContextShape of(Map<String, TypeDescribableObject> values, Set<String> optionalParameters) {
+        if (values.isEmpty() && optionalParameters.isEmpty())
+            return EMPTY;
+
+        Map<String, Entry> entries = new HashMap<>(values.size() * 2);
+        for (Map.Entry<String, TypeDescribableObject> value : values.entrySet()) {
+            entries.put(value.getKey(), new Entry(value.getValue()));
+        }
+        return new ContextShape(Collections.unmodifiableMap(entries),
+                Collections.unmodifiableSet(new HashSet<>(optionalParameters)), null);
+    }
+
+    /**
+     * Returns the shape of a layered context whose own layer has this shape over the parent of the given shape.
+     *
+     * @param parentShape shape of the parent context
+     * @return shape of the layered context. The parent shape itself if this shape is {@link #EMPTY}
+     */
+    public ContextShape over(ContextShape parentShape) {
+        if (this == EMPTY)
+            return parentShape;
+        return new ContextShape(entries, optionalParameters, parent == null ? parentShape : parent.over(parentShape));
+    }
+
+    /**
+     * @return number of keys in the shape and its parent shapes. A key in two layers is counted twice
+     */
+    public int size() {
+        return parent == null ? entries.size() : entries.size() + parent.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ContextShape))
+            return false;
+        ContextShape that = (ContextShape) o;
+        return hash == that.hash
+                && entries.equals(that.entries)
+                && optionalParameters.equals(that.optionalParameters)
+                && Objects.equals(parent, that.parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static final class Entry {
+        private final Type type;
+        private final Class<?> valueClass;
+        private final Class<?> elementClass;
+
+        private Entry(TypeDescribableObject value) {
+            Object object = value.getObject();
+            this.type = value.getType();
+            this.valueClass = object == null ? null : object.getClass();
+            if (object instanceof List && !((List<?>) object).isEmpty()) {
+                Object first = ((List<?>) object).get(0);
+                this.elementClass = first == null ? null : first.getClass();
+            } else {
+                this.elementClass = null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Entry))
+                return false;
+            Entry that = (Entry) o;
+            return Objects.equals(type, that.type)
+                    && valueClass == that.valueClass
+                    && elementClass == that.elementClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, valueClass, elementClass);
+        }
+    }
+}
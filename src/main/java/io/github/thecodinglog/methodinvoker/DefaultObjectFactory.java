@@ -1,31 +1,82 @@
 package io.github.thecodinglog.methodinvoker;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Constructor;
+import java.util.function.Consumer;
 
 /**
+ * Creates objects by the constructor that best matches the context.
+ * <p>
+ * The resolved constructor is cached by the class and the {@link ContextShape} of the context,
+ * and objects are shared by the {@link InstanceScope} of the class.
+ * Objects of {@link InstanceScope#POOLED} classes are not borrowed from the pools,
+ * since nothing tells when the caller is done with them.
+ * Each object creation is reported to the {@link InvocationListener}, if registered.
+ *
  * @author Jeongjin Kim
  * @since 2021-02-19
  */
 final class DefaultObjectFactory implements ObjectFactory {
     private final ConstructorResolver constructorResolver;
+    private final InvocationEngine invocationEngine;
+    private final ClassLoadingCache classLoadingCache;
+    private final ScopedInstances scopedInstances;
+    private final InvocationListener listener;
+    private final InvocationPlanCache<InvocationPlan> constructorPlans = new InvocationPlanCache<>();
 
     public DefaultObjectFactory(ConstructorResolver constructorResolver) {
+        this(constructorResolver, new BytecodeInvocationEngine());
+    }
+
+    public DefaultObjectFactory(ConstructorResolver constructorResolver, InvocationEngine invocationEngine) {
+        this(constructorResolver, invocationEngine, new ClassLoadingCache());
+    }
+
+    public DefaultObjectFactory(ConstructorResolver constructorResolver, InvocationEngine invocationEngine,
+                                ClassLoadingCache classLoadingCache) {
+        this(constructorResolver, invocationEngine, classLoadingCache,
+                new ScopedInstances(InstanceScopes.annotated()));
+    }
+
+    public DefaultObjectFactory(ConstructorResolver constructorResolver, InvocationEngine invocationEngine,
+                                ClassLoadingCache classLoadingCache, ScopedInstances scopedInstances) {
+        this(constructorResolver, invocationEngine, classLoadingCache, scopedInstances, null);
+    }
+
+    public DefaultObjectFactory(ConstructorResolver constructorResolver, InvocationEngine invocationEngine,
+                                ClassLoadingCache classLoadingCache, ScopedInstances scopedInstances,
+                                InvocationListener listener) {
         this.constructorResolver = constructorResolver;
+        this.invocationEngine = invocationEngine;
+        this.classLoadingCache = classLoadingCache;
+        this.scopedInstances = scopedInstances;
+        this.listener = listener;
     }
 
     public DefaultObjectFactory() {
-        constructorResolver = new StrictConstructorResolver(
+        this(new StrictConstructorResolver(
                 new PublicOnlyCandidateConstructorsSelector(),
                 new TypeMatchableMethodArgumentBinder(),
                 new HighestPriorityPicker()
-        );
+        ));
     }
 
     @Override
     public Object createObject(String fullQualifiedClassName, Context context) {
         Class<?> aClass;
         try {
-            aClass = Class.forName(fullQualifiedClassName);
+            aClass = classLoadingCache.forName(fullQualifiedClassName);
+        } catch (ClassNotFoundException e) {
+            throw new ObjectInitializationException(e.getMessage(), e);
+        }
+
+        return createObject(aClass, context);
+    }
+
+    @Override
+    public Object createObject(String fullQualifiedClassName, ClassLoader classLoader, Context context) {
+        Class<?> aClass;
+        try {
+            aClass = classLoadingCache.forName(fullQualifiedClassName, classLoader);
         } catch (ClassNotFoundException e) {
             throw new ObjectInitializationException(e.getMessage(), e);
         }
@@ -35,13 +86,104 @@ final class DefaultObjectFactory implements ObjectFactory {
 
     @Override
     public Object createObject(Class<?> clazz, Context context) {
-        PrioritizableMethodOrConstructorHolder methodOrConstructorHolder = constructorResolver.resolve(clazz, context);
+        if (listener == null)
+            return createObject(clazz, context, null);
+
+        InvocationTrace trace = new InvocationTrace(clazz, null);
+        Throwable failure = null;
+        try {
+            return createObject(clazz, context, trace);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            trace.finish(listener, failure);
+        }
+    }
+
+    private Object createObject(Class<?> clazz, Context context, InvocationTrace trace) {
+        InvocationPlan plan = constructorPlans.find(clazz, null, context);
+        Constructor<?> constructor;
+        InvocationEngine.Invocable invocable;
+        Object[] args;
+        if (plan != null) {
+            if (trace != null) {
+                trace.planned();
+                trace.constructorSelected(plan.constructor(), plan.strategies());
+            }
+            constructor = plan.constructor();
+            invocable = plan.invocable();
+            long start = InvocationTrace.start(trace);
+            args = plan.arguments(context);
+            InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+        } else {
+            BindingRecorder recorder = new BindingRecorder(trace);
+            PrioritizableMethodOrConstructorHolder methodOrConstructorHolder =
+                    constructorResolver.resolve(clazz, context, recorder);
+            if (trace != null)
+                trace.constructorSelected(methodOrConstructorHolder.constructor(),
+                        methodOrConstructorHolder.strategies());
+            if (!recorder.isValueDependent())
+                plan = InvocationPlan.of(methodOrConstructorHolder, invocationEngine);
+            if (plan != null)
+                constructorPlans.put(clazz, null, context, plan);
+            constructor = methodOrConstructorHolder.constructor();
+            invocable = plan != null ? plan.invocable() : invocationEngine.prepare(constructor);
+            args = methodOrConstructorHolder.args();
+        }
+
+        return create(constructor, invocable, args, trace);
+    }
+
+    private Object create(Constructor<?> constructor, InvocationEngine.Invocable invocable, Object[] args,
+                           InvocationTrace trace) {
         Object o;
+        long start = InvocationTrace.start(trace);
         try {
-            o = methodOrConstructorHolder.constructor().newInstance(methodOrConstructorHolder.args());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            o = scopedInstances.create(constructor, invocable, args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ObjectInitializationException(e.getMessage(), e);
+        } finally {
+            InvocationTrace.stop(trace, InvocationPhase.OBJECT_CONSTRUCTION, start);
         }
         return o;
     }
+
+    /**
+     * Create an object for each context, keeping the constructor plan of the last context,
+     * so contexts of the same shape are created without looking up the cache.
+     *
+     * @param clazz    the class to be instantiated
+     * @param contexts The contexts referenced to create the objects
+     * @param sink     receiver of the created objects
+     */
+    @Override
+    public void createObjects(Class<?> clazz, Iterable<? extends Context> contexts, Consumer<Object> sink) {
+        if (listener != null) {
+            ObjectFactory.super.createObjects(clazz, contexts, sink);
+            return;
+        }
+        InvocationPlan plan = null;
+        ContextShape planShape = null;
+        for (Context context : contexts) {
+            ContextShape shape = context == null ? ContextShape.EMPTY : context.shape();
+            if (plan != null && planShape.equals(shape)) {
+                sink.accept(create(plan.constructor(), plan.invocable(), plan.arguments(context), null));
+                continue;
+            }
+            Object object = createObject(clazz, context, null);
+            plan = shape == null ? null : constructorPlans.find(clazz, null, context);
+            planShape = shape;
+            sink.accept(object);
+        }
+    }
+
+    /**
+     * @param clazz class whose resolved constructors are discarded
+     */
+    void invalidate(Class<?> clazz) {
+        constructorPlans.invalidate(clazz);
+    }
 }
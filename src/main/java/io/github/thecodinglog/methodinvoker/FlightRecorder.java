@@ -0,0 +1,70 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * Emits Java Flight Recorder events of resolutions, bindings and invocations.
+ * <p>
+ * This version is for JDKs without {@code jdk.jfr} and emits nothing, so every call is inlined away.
+ * On Java 11 or later, the version in {@code META-INF/versions/11} of the multi-release jar replaces it,
+ * and events are committed only while a recording enables them.
+ * Each {@code begin} returns the event to give to the matching {@code end}, or {@code null} if not recorded.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class FlightRecorder {
+    private FlightRecorder() {
+    }
+
+    /**
+     * @return event of a resolution. {@code null} if not recorded
+     */
+    static Object beginResolution() {
+        return null;
+    }
+
+    /**
+     * @param event       event returned by {@link #beginResolution()}. nullable
+     * @param targetClass class to resolve the method or constructor of
+     * @param methodName  name of the method. {@code null} for a constructor
+     * @param candidates  number of candidates. {@code -1} if failed before selecting them
+     * @param selected    selected method or constructor. {@code null} if failed
+     * @param context     context to bind arguments from. nullable
+     */
+    static void endResolution(Object event, Class<?> targetClass, String methodName, int candidates,
+                              Executable selected, Context context) {
+    }
+
+    /**
+     * @return event of binding the arguments of a candidate. {@code null} if not recorded
+     */
+    static Object beginBinding() {
+        return null;
+    }
+
+    /**
+     * @param event      event returned by {@link #beginBinding()}. nullable
+     * @param executable method or constructor to bind
+     * @param bound      number of bound parameters
+     */
+    static void endBinding(Object event, Executable executable, int bound) {
+    }
+
+    /**
+     * @return event of an invocation of the target method. {@code null} if not recorded
+     */
+    static Object beginInvocation() {
+        return null;
+    }
+
+    /**
+     * @param event  event returned by {@link #beginInvocation()}. nullable
+     * @param target object invoked on
+     * @param method invoked method
+     * @param failed whether the method threw
+     */
+    static void endInvocation(Object event, Object target, Method method, boolean failed) {
+    }
+}
@@ -23,20 +23,22 @@ final class HighestPriorityPicker implements PriorityPicker {
         if (object.size() == 1)
             return object.get(0);
 
-        // choose the best among the candidates
-        // Sort from highest priority (0) to lowest priority (Integer.MAX_VALUE)
-        object.sort((o1, o2) -> {
-            if (o1.priority() < o1.priority())
-                return 1;
-            else if (o1.priority() == o2.priority())
-                return 0;
-            else
-                return -1;
-        });
+        // choose the best among the candidates. 0 is the highest priority.
+        Prioritizable highest = object.get(0);
+        boolean ambiguous = false;
+        for (int i = 1; i < object.size(); i++) {
+            Prioritizable candidate = object.get(i);
+            if (candidate.priority() < highest.priority()) {
+                highest = candidate;
+                ambiguous = false;
+            } else if (candidate.priority() == highest.priority()) {
+                ambiguous = true;
+            }
+        }
 
-        if (object.get(0).priority() == object.get(1).priority())
+        if (ambiguous)
             throw new PriorityPickingException("Ambiguous priority objects");
 
-        return object.get(0);
+        return highest;
     }
 }
@@ -0,0 +1,29 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * How objects of a class are shared between invocations by class or class name.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public enum InstanceScope {
+    /**
+     * A new object is created for each invocation.
+     */
+    PROTOTYPE,
+    /**
+     * One object is shared for each constructor and the identities of its arguments.
+     */
+    SINGLETON,
+    /**
+     * One object is kept in each thread for each constructor and the identities of its arguments.
+     */
+    THREAD_LOCAL,
+    /**
+     * At most the pool size of objects exist for each constructor and the identities of its arguments.
+     * An invocation borrows an idle object, or creates one if fewer than the pool size exist,
+     * or otherwise waits until another invocation returns one. It fails if none is returned in the borrow timeout.
+     * Objects created by {@link ObjectFactory} are not borrowed from the pool and are new for each creation.
+     */
+    POOLED
+}
@@ -0,0 +1,142 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.annotations.Scope;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable registry of {@link InstanceScope} of classes.
+ * <p>
+ * The scope of a class is the registered one, or the one of {@link Scope} annotated on the class.
+ * Otherwise it is {@link InstanceScope#PROTOTYPE}.
+ * A registry is changed by creating a new one, for example,
+ * {@code InstanceScopes.annotated().with(OrderManager.class, InstanceScope.SINGLETON)}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class InstanceScopes {
+    /**
+     * Default maximum number of idle objects kept for {@link InstanceScope#POOLED}.
+     */
+    public static final int DEFAULT_POOL_SIZE = 8;
+    /**
+     * Default milliseconds to wait for a {@link InstanceScope#POOLED} object to be released.
+     */
+    public static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 10_000;
+    private static final InstanceScopes ANNOTATED = new InstanceScopes(Collections.emptyMap());
+
+    private final Map<Class<?>, Registration> registrations;
+
+    private InstanceScopes(Map<Class<?>, Registration> registrations) {
+        this.registrations = registrations;
+    }
+
+    /**
+     * @return registry that only uses {@link Scope} annotations
+     */
+    public static InstanceScopes annotated() {
+        return ANNOTATED;
+    }
+
+    /**
+     * Create the registry with the scope of the class registered.
+     *
+     * @param clazz class to register
+     * @param scope scope of the objects of the class
+     * @return new registry
+     */
+    public InstanceScopes with(Class<?> clazz, InstanceScope scope) {
+        return with(clazz, new Registration(scope, DEFAULT_POOL_SIZE, DEFAULT_BORROW_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * Create the registry with the class registered as {@link InstanceScope#POOLED}.
+     *
+     * @param clazz    class to register
+     * @param poolSize the maximum number of objects of each pool
+     * @return new registry
+     * @throws IllegalArgumentException if the pool size is less than 1
+     */
+    public InstanceScopes withPooled(Class<?> clazz, int poolSize) {
+        return withPooled(clazz, poolSize, DEFAULT_BORROW_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create the registry with the class registered as {@link InstanceScope#POOLED}.
+     * An invocation that waits longer than the timeout for a pooled object fails.
+     *
+     * @param clazz         class to register
+     * @param poolSize      the maximum number of objects of each pool
+     * @param borrowTimeout time to wait for an object to be released when all objects of the pool are borrowed
+     * @param unit          unit of the timeout
+     * @return new registry
+     * @throws IllegalArgumentException if the pool size is less than 1 or the timeout is negative
+     */
+    public InstanceScopes withPooled(Class<?> clazz, int poolSize, long borrowTimeout, TimeUnit unit) {
+        return with(clazz, new Registration(InstanceScope.POOLED, poolSize, unit.toMillis(borrowTimeout)));
+    }
+
+    /**
+     * @param clazz class of objects
+     * @return scope of the objects of the class
+     */
+    public InstanceScope scopeOf(Class<?> clazz) {
+        Registration registration = registrations.get(clazz);
+        if (registration != null)
+            return registration.scope;
+        Scope scope = clazz.getAnnotation(Scope.class);
+        return scope == null ? InstanceScope.PROTOTYPE : scope.value();
+    }
+
+    /**
+     * @param clazz class of objects
+     * @return the maximum number of idle objects kept, when the class is {@link InstanceScope#POOLED}
+     */
+    int poolSizeOf(Class<?> clazz) {
+        Registration registration = registrations.get(clazz);
+        if (registration != null)
+            return registration.poolSize;
+        Scope scope = clazz.getAnnotation(Scope.class);
+        return scope == null ? DEFAULT_POOL_SIZE : Math.max(1, scope.poolSize());
+    }
+
+    /**
+     * @param clazz class of objects
+     * @return milliseconds to wait for a pooled object, when the class is {@link InstanceScope#POOLED}
+     */
+    long borrowTimeoutMillisOf(Class<?> clazz) {
+        Registration registration = registrations.get(clazz);
+        if (registration != null)
+            return registration.borrowTimeoutMillis;
+        Scope scope = clazz.getAnnotation(Scope.class);
+        return scope == null ? DEFAULT_BORROW_TIMEOUT_MILLIS : Math.max(0, scope.borrowTimeoutMillis());
+    }
+
+    private InstanceScopes with(Class<?> clazz, Registration registration) {
+        if (clazz == null || registration.scope == null)
+            throw new IllegalArgumentException("Class and scope cannot be null.");
+        Map<Class<?>, Registration> map = new HashMap<>(registrations);
+        map.put(clazz, registration);
+        return new InstanceScopes(Collections.unmodifiableMap(map));
+    }
+
+    private static final class Registration {
+        private final InstanceScope scope;
+        private final int poolSize;
+        private final long borrowTimeoutMillis;
+
+        private Registration(InstanceScope scope, int poolSize, long borrowTimeoutMillis) {
+            if (poolSize < 1)
+                throw new IllegalArgumentException("Pool size must be greater than 0. : " + poolSize);
+            if (borrowTimeoutMillis < 0)
+                throw new IllegalArgumentException("Borrow timeout cannot be negative. : " + borrowTimeoutMillis);
+            this.scope = scope;
+            this.poolSize = poolSize;
+            this.borrowTimeoutMillis = borrowTimeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Executable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache of prepared methods and constructors for {@link InvocationEngine} implementations.
+ * <p>
+ * Prepared ones are kept with the declaring class through {@link ClassValue},
+ * so the cache does not prevent the class from unloading.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class InvocableCache {
+    private final ClassValue<ConcurrentMap<Executable, InvocationEngine.Invocable>> invocables =
+            new ClassValue<ConcurrentMap<Executable, InvocationEngine.Invocable>>() {
+                @Override
+                protected ConcurrentMap<Executable, InvocationEngine.Invocable> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Returns the prepared one of the executable. If not cached, it is prepared by the factory and cached.
+     *
+     * @param executable method or constructor
+     * @param factory    to prepare the executable
+     * @param <E>        type of the executable
+     * @return prepared method or constructor
+     */
+    <E extends Executable> InvocationEngine.Invocable get(E executable,
+                                                          Function<? super E, InvocationEngine.Invocable> factory) {
+        ConcurrentMap<Executable, InvocationEngine.Invocable> classInvocables =
+                invocables.get(executable.getDeclaringClass());
+        InvocationEngine.Invocable invocable = classInvocables.get(executable);
+        if (invocable == null)
+            invocable = classInvocables.computeIfAbsent(executable, e -> factory.apply(executable));
+        return invocable;
+    }
+}
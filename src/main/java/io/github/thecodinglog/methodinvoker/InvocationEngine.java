@@ -0,0 +1,50 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Strategy interface that invokes the resolved method or constructor.
+ * <p>
+ * The method or constructor is prepared once and the prepared {@link Invocable} is invoked repeatedly.
+ * An {@link Invocable} can be cached and shared between threads.
+ * <p>
+ * Exceptions thrown by the method or constructor itself are thrown as they are, not wrapped.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public interface InvocationEngine {
+    /**
+     * Prepare the method to be invoked.
+     *
+     * @param method the method to invoke
+     * @return prepared method
+     */
+    Invocable prepare(Method method);
+
+    /**
+     * Prepare the constructor to be invoked.
+     * The target object is ignored when the prepared constructor is invoked.
+     *
+     * @param constructor the constructor to invoke
+     * @return prepared constructor that returns the new object
+     */
+    Invocable prepare(Constructor<?> constructor);
+
+    /**
+     * Prepared method or constructor that can be invoked repeatedly.
+     */
+    @FunctionalInterface
+    interface Invocable {
+        /**
+         * Invoke the prepared method or constructor.
+         *
+         * @param target the object the method is invoked from. It is ignored if static or constructor
+         * @param args   the arguments of the method
+         * @return the result of the method or the new object. {@code null} if the return type is void
+         * @throws Throwable the exception thrown by the method itself, or thrown when failed to invoke it
+         */
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+}
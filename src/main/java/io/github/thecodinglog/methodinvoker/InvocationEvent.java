@@ -0,0 +1,134 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable record of an invocation given to {@link InvocationListener}.
+ * <p>
+ * It has the selected method and constructor, the strategy that bound each of their parameters
+ * and the nanoseconds spent in each {@link InvocationPhase}.
+ * When a cached or prepared plan is used, nothing is resolved and only the argument fetching, the object construction
+ * and the method invocation are timed.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class InvocationEvent {
+    private final Class<?> targetClass;
+    private final String methodName;
+    private final Method method;
+    private final Constructor<?> constructor;
+    private final List<Class<? extends MethodArgumentBindingStrategy>> methodStrategies;
+    private final List<Class<? extends MethodArgumentBindingStrategy>> constructorStrategies;
+    private final long[] phaseNanos;
+    private final long totalNanos;
+    private final boolean planned;
+    private final Throwable failure;
+
+    InvocationEvent(Class<?> targetClass, String methodName, Method method, Constructor<?> constructor,
+                    List<Class<? extends MethodArgumentBindingStrategy>> methodStrategies,
+                    List<Class<? extends MethodArgumentBindingStrategy>> constructorStrategies,
+                    long[] phaseNanos, long totalNanos, boolean planned, Throwable failure) {
+        this.targetClass = targetClass;
+        this.methodName = methodName;
+        this.method = method;
+        this.constructor = constructor;
+        this.methodStrategies = unmodifiable(methodStrategies);
+        this.constructorStrategies = unmodifiable(constructorStrategies);
+        this.phaseNanos = phaseNanos.clone();
+        this.totalNanos = totalNanos;
+        this.planned = planned;
+        this.failure = failure;
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return class of the object or the class to invoke
+     */
+    public Class<?> targetClass() {
+        return targetClass;
+    }
+
+    /**
+     * @return name of the method to invoke. {@code null} if it is an object creation
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return selected method. {@code null} if it is an object creation or no method was selected
+     */
+    public Method method() {
+        return method;
+    }
+
+    /**
+     * @return selected constructor. {@code null} if invoked on an object or no constructor was selected
+     */
+    public Constructor<?> constructor() {
+        return constructor;
+    }
+
+    /**
+     * @return types of the strategies that bound the parameters of the method, in parameter order.
+     * Empty if unknown
+     */
+    public List<Class<? extends MethodArgumentBindingStrategy>> methodStrategies() {
+        return methodStrategies;
+    }
+
+    /**
+     * @return types of the strategies that bound the parameters of the constructor, in parameter order.
+     * Empty if unknown
+     */
+    public List<Class<? extends MethodArgumentBindingStrategy>> constructorStrategies() {
+        return constructorStrategies;
+    }
+
+    /**
+     * @param phase phase of the invocation
+     * @return nanoseconds spent in the phase
+     */
+    public long nanos(InvocationPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return nanoseconds from the start to the end of the invocation
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return {@code true} if a cached or prepared plan was used instead of resolving
+     */
+    public boolean isPlanned() {
+        return planned;
+    }
+
+    /**
+     * @return exception thrown by the invocation. {@code null} if succeeded
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "InvocationEvent{" +
+                "targetClass=" + targetClass.getName() +
+                ", methodName=" + methodName +
+                ", totalNanos=" + totalNanos +
+                ", planned=" + planned +
+                ", failed=" + (failure != null) +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors to give {@link MethodInvoker#invokeAsync(Object, String, Context, java.util.concurrent.Executor)}.
+ * <p>
+ * On Java 21 or later, {@link #newPerInvocationExecutor()} runs each invocation in its own virtual thread,
+ * so targets that block do not hold a platform thread. This is the Java 8 version, which runs them in daemon platform
+ * threads instead. The Java 21 version replaces it through the multi-release jar.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class InvocationExecutors {
+    private InvocationExecutors() {
+    }
+
+    /**
+     * Returns a new executor that starts a thread for each invocation unless an idle one is left.
+     * Threads are daemon threads named {@code method-invoker-<n>}. The executor is unbounded,
+     * so the number of concurrent invocations should be limited by the caller.
+     *
+     * @return new executor. It should be shut down after use
+     */
+    public static ExecutorService newPerInvocationExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "method-invoker-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    /**
+     * @return {@code true} if {@link #newPerInvocationExecutor()} runs invocations in virtual threads
+     */
+    public static boolean usesVirtualThreads() {
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * Receives an {@link InvocationEvent} after each invocation of {@link StrictMethodInvoker},
+ * {@link PreparedInvocation} and object creation of the object factory, whether it succeeded or failed.
+ * <p>
+ * It is called on the invoking thread, so it must be thread safe and should return quickly.
+ * Exceptions thrown by the listener are logged and ignored.
+ * When no listener is registered, phases are not timed at all.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface InvocationListener {
+    /**
+     * @param event what happened in the invocation
+     */
+    void onInvocation(InvocationEvent event);
+}
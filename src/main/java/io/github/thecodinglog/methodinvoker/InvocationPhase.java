@@ -0,0 +1,30 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * Phases of an invocation timed for {@link InvocationListener}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public enum InvocationPhase {
+    /**
+     * Selecting and sorting the candidate methods or constructors of the class.
+     */
+    CANDIDATE_SELECTION,
+    /**
+     * Binding the arguments of the candidates, or fetching the arguments of a cached plan from the context.
+     */
+    ARGUMENT_BINDING,
+    /**
+     * Picking the candidate of the highest priority.
+     */
+    PRIORITY_PICKING,
+    /**
+     * Creating the object, or getting it from its {@link InstanceScope}.
+     */
+    OBJECT_CONSTRUCTION,
+    /**
+     * Invoking the target method.
+     */
+    METHOD_INVOCATION
+}
@@ -0,0 +1,103 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Immutable result of a method or constructor resolution
+ * that can be replayed against contexts of the same {@link ContextShape}.
+ * <p>
+ * It keeps the selected method or constructor and the source of each argument,
+ * so the arguments are only fetched from the context instead of resolving it again.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class InvocationPlan {
+    private final Method method;
+    private final Constructor<?> constructor;
+    private final InvocationEngine.Invocable invocable;
+    private final Class<?>[] parameterTypes;
+    private final ArgumentSource[] argumentSources;
+    private final List<Class<? extends MethodArgumentBindingStrategy>> strategies;
+
+    private InvocationPlan(Method method, Constructor<?> constructor, InvocationEngine.Invocable invocable,
+                           ArgumentSource[] argumentSources,
+                           List<Class<? extends MethodArgumentBindingStrategy>> strategies) {
+        this.method = method;
+        this.constructor = constructor;
+        this.invocable = invocable;
+        this.parameterTypes = method != null ? method.getParameterTypes() : constructor.getParameterTypes();
+        this.argumentSources = argumentSources;
+        this.strategies = strategies;
+    }
+
+    /**
+     * Create the plan from the resolved method or constructor.
+     *
+     * @param holder resolved method or constructor and arguments
+     * @param engine engine to prepare the method or constructor
+     * @return plan of the method or constructor. {@code null} if the argument sources are unknown or value dependent
+     */
+    static InvocationPlan of(PrioritizableMethodOrConstructorHolder holder, InvocationEngine engine) {
+        Executable executable = holder.method() != null ? holder.method() : holder.constructor();
+        List<ArgumentSource> sources = holder.argumentSources();
+        if (executable == null || sources == null || sources.size() != executable.getParameterCount())
+            return null;
+
+        for (ArgumentSource source : sources) {
+            if (source == null || source.isValueDependent())
+                return null;
+        }
+        ArgumentSource[] argumentSources = sources.toArray(new ArgumentSource[0]);
+        if (holder.method() != null)
+            return new InvocationPlan(holder.method(), null, engine.prepare(holder.method()), argumentSources,
+                    holder.strategies());
+        return new InvocationPlan(null, holder.constructor(), engine.prepare(holder.constructor()), argumentSources,
+                holder.strategies());
+    }
+
+    /**
+     * @return method to invoke. {@code null} if it is the plan of a constructor
+     */
+    Method method() {
+        return method;
+    }
+
+    /**
+     * @return constructor to invoke. {@code null} if it is the plan of a method
+     */
+    Constructor<?> constructor() {
+        return constructor;
+    }
+
+    /**
+     * @return types of the strategies that bound the parameters. {@code null} if not recorded
+     */
+    List<Class<? extends MethodArgumentBindingStrategy>> strategies() {
+        return strategies;
+    }
+
+    /**
+     * @return prepared method or constructor
+     */
+    InvocationEngine.Invocable invocable() {
+        return invocable;
+    }
+
+    /**
+     * Fetch the arguments of the method or constructor from the context.
+     *
+     * @param context the context of the same shape with the one the plan was created from
+     * @return actual arguments
+     */
+    Object[] arguments(Context context) {
+        Object[] args = new Object[argumentSources.length];
+        for (int i = 0; i < argumentSources.length; i++) {
+            args[i] = argumentSources[i].fetch(context, parameterTypes[i]);
+        }
+        return args;
+    }
+}
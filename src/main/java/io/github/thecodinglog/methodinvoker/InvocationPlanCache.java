@@ -0,0 +1,93 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread safe cache of plans, such as {@link InvocationPlan}, by class, method name and {@link ContextShape}.
+ * <p>
+ * Plans are kept with the class through {@link ClassValue}, so the cache does not prevent classes from unloading.
+ * Each class keeps at most {@link #MAX_PLANS_PER_CLASS} plans. When it is full, new plans are not cached.
+ * <p>
+ * A context without a shape never hits the cache.
+ *
+ * @param <P> type of the plan
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class InvocationPlanCache<P> {
+    static final int MAX_PLANS_PER_CLASS = 256;
+
+    private final ClassValue<ConcurrentMap<Key, P>> plans =
+            new ClassValue<ConcurrentMap<Key, P>>() {
+                @Override
+                protected ConcurrentMap<Key, P> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * @param aClass     class of the method
+     * @param methodName method name or qualifier. nullable
+     * @param context    context to invoke with. nullable
+     * @return cached plan. {@code null} if not cached
+     */
+    P find(Class<?> aClass, String methodName, Context context) {
+        ContextShape shape = shapeOf(context);
+        if (shape == null)
+            return null;
+        return plans.get(aClass).get(new Key(methodName, shape));
+    }
+
+    /**
+     * @param aClass     class of the method
+     * @param methodName method name or qualifier. nullable
+     * @param context    context the plan was created from. nullable
+     * @param plan       plan to cache
+     */
+    void put(Class<?> aClass, String methodName, Context context, P plan) {
+        ContextShape shape = shapeOf(context);
+        if (shape == null)
+            return;
+        ConcurrentMap<Key, P> classPlans = plans.get(aClass);
+        if (classPlans.size() < MAX_PLANS_PER_CLASS)
+            classPlans.putIfAbsent(new Key(methodName, shape), plan);
+    }
+
+    /**
+     * @param aClass class whose plans are discarded
+     */
+    void invalidate(Class<?> aClass) {
+        plans.remove(aClass);
+    }
+
+    private ContextShape shapeOf(Context context) {
+        return context == null ? ContextShape.EMPTY : context.shape();
+    }
+
+    private static final class Key {
+        private final String methodName;
+        private final ContextShape shape;
+
+        private Key(String methodName, ContextShape shape) {
+            this.methodName = methodName;
+            this.shape = shape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return Objects.equals(methodName, key.methodName) && shape.equals(key.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(methodName) + shape.hashCode();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Collects the timings and the selections of a single invocation for {@link InvocationListener}.
+ * <p>
+ * Where no listener is registered the trace is {@code null}, so {@link #start(InvocationTrace)} and
+ * {@link #stop(InvocationTrace, InvocationPhase, long)} do not read the clock.
+ * Not thread safe. Use one trace per invocation.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class InvocationTrace {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(InvocationTrace.class);
+    private static final int PHASES = InvocationPhase.values().length;
+
+    private final Class<?> targetClass;
+    private final String methodName;
+    private final long started = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES];
+    private Method method;
+    private Constructor<?> constructor;
+    private List<Class<? extends MethodArgumentBindingStrategy>> methodStrategies;
+    private List<Class<? extends MethodArgumentBindingStrategy>> constructorStrategies;
+    private boolean planned;
+
+    InvocationTrace(Class<?> targetClass, String methodName) {
+        this.targetClass = targetClass;
+        this.methodName = methodName;
+    }
+
+    /**
+     * @param trace trace of the invocation. nullable
+     * @return start time of a phase. {@code 0} if not traced
+     */
+    static long start(InvocationTrace trace) {
+        return trace == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Add the time since the start to the phase.
+     *
+     * @param trace trace of the invocation. nullable
+     * @param phase phase that ended
+     * @param start time returned by {@link #start(InvocationTrace)}
+     */
+    static void stop(InvocationTrace trace, InvocationPhase phase, long start) {
+        if (trace != null)
+            trace.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+    }
+
+    /**
+     * @param method     selected method
+     * @param strategies strategies that bound the parameters. nullable
+     */
+    void methodSelected(Method method, List<Class<? extends MethodArgumentBindingStrategy>> strategies) {
+        this.method = method;
+        this.methodStrategies = strategies;
+    }
+
+    /**
+     * @param constructor selected constructor
+     * @param strategies  strategies that bound the parameters. nullable
+     */
+    void constructorSelected(Constructor<?> constructor,
+                             List<Class<? extends MethodArgumentBindingStrategy>> strategies) {
+        this.constructor = constructor;
+        this.constructorStrategies = strategies;
+    }
+
+    /**
+     * Record that a cached or prepared plan is used.
+     */
+    void planned() {
+        this.planned = true;
+    }
+
+    /**
+     * Give the event of the invocation to the listener.
+     *
+     * @param listener listener to notify
+     * @param failure  exception thrown by the invocation. nullable
+     */
+    void finish(InvocationListener listener, Throwable failure) {
+        InvocationEvent event = new InvocationEvent(targetClass, methodName, method, constructor, methodStrategies,
+                constructorStrategies, phaseNanos, System.nanoTime() - started, planned, failure);
+        try {
+            listener.onInvocation(event);
+        } catch (RuntimeException e) {
+            log.warn("Invocation listener failed. : {}", event, e);
+        }
+    }
+}
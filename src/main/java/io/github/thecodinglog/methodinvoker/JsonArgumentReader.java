@@ -0,0 +1,220 @@
+package io.github.thecodinglog.methodinvoker;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Converts json strings to arguments of parameter types.
+ * <p>
+ * An {@link ObjectReader} is created once per parameter type from the {@link ObjectMapper},
+ * with generics considered, so the deserializers are built once and reused.
+ * Readers are kept with the class that owns the type through {@link ClassValue},
+ * which is the class among the type and its type arguments whose class loader sees all the others.
+ * So they do not prevent classes from unloading. Readers of type variables, or of types whose classes
+ * are loaded by unrelated class loaders, are created on every read.
+ * The readers have the configuration of the mapper when they are created,
+ * so the mapper should be configured before it is given.
+ * <p>
+ * The first token of the string is checked before reading,
+ * so a string that cannot be json is rejected without throwing an exception.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class JsonArgumentReader {
+    /**
+     * Maximum number of cached readers per owner class. Readers of other types are created on every read.
+     */
+    static final int MAX_READERS_PER_CLASS = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(JsonArgumentReader.class);
+    private static final JsonArgumentReader SHARED = new JsonArgumentReader(new ObjectMapper());
+
+    private final ObjectMapper objectMapper;
+    private final ClassValue<ConcurrentMap<Type, ObjectReader>> readers =
+            new ClassValue<ConcurrentMap<Type, ObjectReader>>() {
+                @Override
+                protected ConcurrentMap<Type, ObjectReader> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private final boolean checkLeadingToken;
+    private final String leadingCharacters;
+
+    /**
+     * @param objectMapper mapper to create readers
+     */
+    JsonArgumentReader(ObjectMapper objectMapper) {
+        if (objectMapper == null)
+            throw new IllegalArgumentException("ObjectMapper cannot be null.");
+        this.objectMapper = objectMapper;
+        this.checkLeadingToken = JsonFactory.FORMAT_NAME_JSON.equals(objectMapper.getFactory().getFormatName());
+        this.leadingCharacters = leadingCharacters(objectMapper);
+    }
+
+    /**
+     * @return reader with the default {@link ObjectMapper}, shared by all default strategies
+     */
+    static JsonArgumentReader shared() {
+        return SHARED;
+    }
+
+    /**
+     * Read the json string as the type.
+     *
+     * @param json json string
+     * @param type type to read as
+     * @return read object. {@code null} if the string is not json of the type
+     */
+    Object read(String json, Type type) {
+        if (checkLeadingToken && !mayBeJson(json))
+            return null;
+        try {
+            return reader(type).readValue(json);
+        } catch (JsonProcessingException e) {
+            log.debug(e.getMessage());
+            return null;
+        }
+    }
+
+    private ObjectReader reader(Type type) {
+        Class<?> owner = ownerOf(type);
+        ConcurrentMap<Type, ObjectReader> ownerReaders = owner == null ? null : readers.get(owner);
+        ObjectReader reader = ownerReaders == null ? null : ownerReaders.get(type);
+        if (reader != null)
+            return reader;
+
+        reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type));
+        if (ownerReaders != null && ownerReaders.size() < MAX_READERS_PER_CLASS) {
+            ObjectReader existing = ownerReaders.putIfAbsent(type, reader);
+            if (existing != null)
+                return existing;
+        }
+        return reader;
+    }
+
+    private boolean mayBeJson(String json) {
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (!Character.isWhitespace(c))
+                return leadingCharacters.indexOf(c) >= 0;
+        }
+        return false;
+    }
+
+    /**
+     * @param type type to read as
+     * @return class to keep the reader of the type with. {@code null} if there is no such class
+     */
+    static Class<?> ownerOf(Type type) {
+        List<Class<?>> classes = new ArrayList<>();
+        if (!collectClasses(type, classes))
+            return null;
+        for (Class<?> candidate : classes) {
+            boolean seesAll = true;
+            for (Class<?> other : classes) {
+                if (!isSameOrAncestor(other.getClassLoader(), candidate.getClassLoader())) {
+                    seesAll = false;
+                    break;
+                }
+            }
+            if (seesAll)
+                return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * Collect the classes of the type and its type arguments.
+     *
+     * @param type    type to collect from
+     * @param classes list to add the classes to
+     * @return {@code false} if the type has a type variable
+     */
+    private static boolean collectClasses(Type type, List<Class<?>> classes) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray())
+                clazz = clazz.getComponentType();
+            classes.add(clazz);
+            return true;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (!collectClasses(parameterizedType.getRawType(), classes))
+                return false;
+            if (parameterizedType.getOwnerType() != null && !collectClasses(parameterizedType.getOwnerType(), classes))
+                return false;
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (!collectClasses(argument, classes))
+                    return false;
+            }
+            return true;
+        }
+        if (type instanceof GenericArrayType)
+            return collectClasses(((GenericArrayType) type).getGenericComponentType(), classes);
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                if (!collectClasses(bound, classes))
+                    return false;
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                if (!collectClasses(bound, classes))
+                    return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isSameOrAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null)
+            return true;
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor)
+                return true;
+        }
+        return false;
+    }
+
+    private static String leadingCharacters(ObjectMapper objectMapper) {
+        StringBuilder characters = new StringBuilder("{[\"-0123456789tfn");
+        if (isEnabled(objectMapper, JsonReadFeature.ALLOW_SINGLE_QUOTES))
+            characters.append('\'');
+        if (isEnabled(objectMapper, JsonReadFeature.ALLOW_JAVA_COMMENTS))
+            characters.append('/');
+        if (isEnabled(objectMapper, JsonReadFeature.ALLOW_YAML_COMMENTS))
+            characters.append('#');
+        if (isEnabled(objectMapper, JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS))
+            characters.append("NI+");
+        if (isEnabled(objectMapper, JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS))
+            characters.append('.');
+        return characters.toString();
+    }
+
+    /**
+     * Json read features are kept as their parser features by the factory and the deserialization config.
+     *
+     * @param objectMapper mapper to check
+     * @param feature      json read feature
+     * @return whether the parser feature of the json read feature is enabled
+     */
+    private static boolean isEnabled(ObjectMapper objectMapper, JsonReadFeature feature) {
+        return objectMapper.isEnabled(feature.mappedFeature());
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.thecodinglog.methodinvoker;
+
+/**
+ * Immutable snapshot of the latencies of a target aggregated by {@link LatencyHistogramListener}.
+ * <p>
+ * Latencies are counted in buckets of powers of two nanoseconds,
+ * so percentiles are approximated by the upper bound of their bucket.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of buckets. The bucket {@code i} counts latencies from {@code 2^i} to {@code 2^(i+1) - 1} nanoseconds.
+     */
+    public static final int BUCKETS = 64;
+
+    private final long count;
+    private final long failures;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+    private final long[] phaseNanos;
+
+    LatencyHistogram(long count, long failures, long totalNanos, long maxNanos, long[] buckets, long[] phaseNanos) {
+        this.count = count;
+        this.failures = failures;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+        this.phaseNanos = phaseNanos;
+    }
+
+    static int bucketOf(long nanos) {
+        return 63 - Long.numberOfLeadingZeros(Math.max(nanos, 1L));
+    }
+
+    /**
+     * @return number of invocations
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return number of failed invocations
+     */
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * @return sum of the latencies in nanoseconds
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the longest latency in nanoseconds
+     */
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return average latency in nanoseconds. {@code 0} if no invocation
+     */
+    public double meanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * @param phase phase of the invocations
+     * @return sum of the nanoseconds spent in the phase
+     */
+    public long nanos(InvocationPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * @param bucket index of the bucket
+     * @return number of invocations whose latency is in the bucket
+     * @throws IndexOutOfBoundsException if the index is not less than {@link #BUCKETS}
+     */
+    public long bucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Returns the approximate latency under which the specified percentage of invocations completed.
+     *
+     * @param percentile percentage from 0 to 100
+     * @return upper bound of the bucket of the percentile in nanoseconds, not greater than {@link #maxNanos()}.
+     * {@code 0} if no invocation
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100. : " + percentile);
+        long sum = 0;
+        for (long bucketCount : buckets) {
+            sum += bucketCount;
+        }
+        if (sum == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(sum * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank)
+                return i == BUCKETS - 1 ? maxNanos : Math.min((1L << (i + 1)) - 1, maxNanos);
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + count +
+                ", failures=" + failures +
+                ", meanNanos=" + (long) meanNanos() +
+                ", p99Nanos=" + percentileNanos(99) +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link InvocationListener} that aggregates the latencies of each target into a {@link LatencyHistogram}.
+ * <p>
+ * The target of an invocation is the selected method, or the selected constructor for an object creation.
+ * Invocations that failed before selecting any are not aggregated.
+ * Counters are striped by {@link LongAdder}, so threads invoking the same target do not contend on a counter.
+ * At most {@link #MAX_TARGETS} targets are aggregated, and invocations of other targets are ignored.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class LatencyHistogramListener implements InvocationListener {
+    /**
+     * Maximum number of targets to aggregate.
+     */
+    public static final int MAX_TARGETS = 1024;
+
+    private final ConcurrentMap<Executable, Recorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public void onInvocation(InvocationEvent event) {
+        Executable target = event.method() != null ? event.method() : event.constructor();
+        if (target == null)
+            return;
+        Recorder recorder = recorders.get(target);
+        if (recorder == null) {
+            if (recorders.size() >= MAX_TARGETS)
+                return;
+            recorder = recorders.computeIfAbsent(target, k -> new Recorder());
+        }
+        recorder.record(event);
+    }
+
+    /**
+     * @param target method or constructor
+     * @return snapshot of the latencies of the target. {@code null} if never invoked
+     */
+    public LatencyHistogram histogram(Executable target) {
+        Recorder recorder = recorders.get(target);
+        return recorder == null ? null : recorder.snapshot();
+    }
+
+    /**
+     * @return snapshots of the latencies of all targets
+     */
+    public Map<Executable, LatencyHistogram> histograms() {
+        Map<Executable, LatencyHistogram> histograms = new HashMap<>();
+        recorders.forEach((target, recorder) -> histograms.put(target, recorder.snapshot()));
+        return histograms;
+    }
+
+    /**
+     * Discard all aggregated latencies.
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    private static final class Recorder {
+        private static final InvocationPhase[] PHASES = InvocationPhase.values();
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = adders(LatencyHistogram.BUCKETS);
+        private final LongAdder[] phaseNanos = adders(PHASES.length);
+
+        private static LongAdder[] adders(int length) {
+            LongAdder[] adders = new LongAdder[length];
+            for (int i = 0; i < length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        private void record(InvocationEvent event) {
+            long nanos = event.totalNanos();
+            count.increment();
+            if (event.failure() != null)
+                failures.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets[LatencyHistogram.bucketOf(nanos)].increment();
+            for (InvocationPhase phase : PHASES) {
+                long phaseNanos = event.nanos(phase);
+                if (phaseNanos != 0)
+                    this.phaseNanos[phase.ordinal()].add(phaseNanos);
+            }
+        }
+
+        private LatencyHistogram snapshot() {
+            long[] bucketCounts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                bucketCounts[i] = buckets[i].sum();
+            }
+            long[] phases = new long[phaseNanos.length];
+            for (int i = 0; i < phaseNanos.length; i++) {
+                phases[i] = phaseNanos[i].sum();
+            }
+            return new LatencyHistogram(count.sum(), failures.sum(), totalNanos.sum(), maxNanos.get(), bucketCounts,
+                    phases);
+        }
+    }
+}
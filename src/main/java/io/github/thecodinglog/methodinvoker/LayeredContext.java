@@ -0,0 +1,127 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Context of a layer of its own over a parent context, such as the values of a request over shared repositories.
+ * <p>
+ * Values are added into its own layer only, and the parent is never changed nor copied.
+ * A key is looked up in its own layer first and then in the parent.
+ * A type is looked up in its own layer first, and in the parent only if no value of its own layer matches,
+ * so a value of its own layer hides the values of the same type in the parent instead of being ambiguous with them.
+ * Type lookups in the parent go through the parent, so an index of the parent such as {@link TypeIndexedContext}'s
+ * or {@link ConcurrentContext}'s is reused. Its own layer is scanned as {@link SingleLevelContext} does,
+ * so it should hold a few values.
+ * <p>
+ * It is not thread safe. A parent shared by many layered contexts should be thread safe,
+ * like a {@link ConcurrentContext} or its {@link ConcurrentContext#snapshot()}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public class LayeredContext implements Context {
+    private final Context parent;
+    private final SingleLevelContext layer = new SingleLevelContext();
+    private ContextShape parentShape;
+    private ContextShape layerShape;
+    private ContextShape shape;
+
+    /**
+     * Create an empty layer over the parent.
+     *
+     * @param parent the parent context. It cannot be {@code null}
+     * @throws IllegalArgumentException if the parent is {@code null}
+     */
+    public LayeredContext(Context parent) {
+        if (parent == null)
+            throw new IllegalArgumentException("Parent context cannot be null.");
+        this.parent = parent;
+    }
+
+    /**
+     * @return the parent context
+     */
+    public Context parent() {
+        return parent;
+    }
+
+    @Override
+    public TypeDescribableObject getValueByKey(String key) {
+        if (layer.hasKey(key))
+            return layer.getValueByKey(key);
+        return parent.getValueByKey(key);
+    }
+
+    @Override
+    public TypeDescribableObject getOneValueByType(Type type) {
+        return lookupByType(type).valueOrThrow();
+    }
+
+    @Override
+    public TypeLookup lookupByType(Type type) {
+        TypeLookup lookup = layer.lookupByType(type);
+        if (lookup.status() != TypeLookup.Status.MISSING)
+            return lookup;
+        lookup = parent.lookupByType(type);
+        // A parent key hidden by the layer cannot fetch the found value again.
+        if (lookup.key() != null && layer.hasKey(lookup.key()))
+            return TypeLookup.found(lookup.value());
+        return lookup;
+    }
+
+    @Override
+    public boolean hasKey(String key) {
+        return layer.hasKey(key) || parent.hasKey(key);
+    }
+
+    @Override
+    public boolean hasType(Type type) {
+        return layer.hasType(type) || parent.hasType(type);
+    }
+
+    @Override
+    public void add(String key, TypeDescribableObject typeDescribableObject) {
+        layer.add(key, typeDescribableObject);
+    }
+
+    /**
+     * Add a key to the optional parameter set of its own layer.
+     *
+     * @param key key
+     */
+    public void addOptionalParameter(String key) {
+        layer.addOptionalParameter(key);
+    }
+
+    @Override
+    public Set<String> optionalParameters() {
+        Set<String> layerParameters = layer.optionalParameters();
+        if (layerParameters.isEmpty())
+            return parent.optionalParameters();
+        Set<String> parameters = new HashSet<>(parent.optionalParameters());
+        parameters.addAll(layerParameters);
+        return parameters;
+    }
+
+    /**
+     * Returns the shape of its own layer over the shape of the parent.
+     * It is cached until a value is added or the parent changes its shape.
+     *
+     * @return shape of this context. {@code null} if the parent cannot describe itself
+     */
+    @Override
+    public ContextShape shape() {
+        ContextShape currentParentShape = parent.shape();
+        if (currentParentShape == null)
+            return null;
+        ContextShape currentLayerShape = layer.shape();
+        if (shape == null || currentParentShape != parentShape || currentLayerShape != layerShape) {
+            shape = currentLayerShape.over(currentParentShape);
+            parentShape = currentParentShape;
+            layerShape = currentLayerShape;
+        }
+        return shape;
+    }
+}
@@ -17,5 +17,17 @@ interface MethodArgumentBinder {
      * @return Immutable class with constructor and arguments. nullable.
      * @throws MethodBindingException if failed to bind
      */
-    PrioritizableMethodOrConstructorHolder bind(MethodOrConstructor methodOrConstructor, Context context);
+    default PrioritizableMethodOrConstructorHolder bind(MethodOrConstructor methodOrConstructor, Context context) {
+        return bind(methodOrConstructor, context, new BindingRecorder());
+    }
+
+    /**
+     * @param methodOrConstructor Method or constructor to bind
+     * @param context             The context containing the arguments to bind with parameters
+     * @param recorder            The recorder to report consulted argument sources to
+     * @return Immutable class with constructor and arguments. nullable.
+     * @throws MethodBindingException if failed to bind
+     */
+    PrioritizableMethodOrConstructorHolder bind(MethodOrConstructor methodOrConstructor, Context context,
+                                                BindingRecorder recorder);
 }
@@ -4,12 +4,34 @@ package io.github.thecodinglog.methodinvoker;
  * Strategy interface that binds method parameters and objects
  * stored in the context.
  * <p>
- * Use a combination of bind strategy objects custom implemented
- * in MethodArgumentBinder.
+ * Strategies are combined in order by {@link ArgumentBindingPipeline}.
+ * Implementations should be stateless, since a strategy is shared by all bindings.
  *
  * @author Jeongjin Kim
  * @since 2021-03-26
  */
-interface MethodArgumentBindingStrategy {
-    ParameterBindingResult tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context);
+public interface MethodArgumentBindingStrategy {
+    /**
+     * Try to bind an object in the context to the parameter.
+     * If bound, the object is given to {@link ParameterAndArgumentHolder#accept}.
+     *
+     * @param parameterAndArgumentHolder parameter to bind
+     * @param context                    context to find the object
+     * @return status of the binding. {@link BindingStatus#SKIPPED_BY_VALUE} if the strategy does not apply because of
+     * the value rather than the type of the object, so that the resolution is not reused for other values
+     */
+    BindingStatus tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context);
+
+    /**
+     * Returns where this strategy takes the argument of the parameter from,
+     * so that the resolution can be replayed for contexts of the same shape.
+     * <p>
+     * If {@code null}, resolutions bound by this strategy are not reused, and failures of them are not cached.
+     *
+     * @param parameterAndArgumentHolder parameter bound by this strategy
+     * @return source of the argument. nullable
+     */
+    default ArgumentSource sourceOf(ParameterAndArgumentHolder parameterAndArgumentHolder) {
+        return null;
+    }
 }
@@ -2,6 +2,8 @@ package io.github.thecodinglog.methodinvoker;
 
 /**
  * The exception is raised when failed to bind method and arguments.
+ * <p>
+ * It is always wrapped by the resolver before reaching users, so it does not capture a stack trace.
  *
  * @author Jeongjin Kim
  * @since 2021-03-10
@@ -13,7 +15,7 @@ class MethodBindingException extends RuntimeException {
      * @param msg the detail message
      */
     public MethodBindingException(String msg) {
-        super(msg);
+        super(msg, null, false, false);
     }
 
     /**
@@ -24,6 +26,6 @@ class MethodBindingException extends RuntimeException {
      * @param cause the root cause
      */
     public MethodBindingException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, false, false);
     }
 }
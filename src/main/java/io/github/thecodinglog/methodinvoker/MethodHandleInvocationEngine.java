@@ -0,0 +1,75 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link InvocationEngine} that invokes the method or constructor through a {@link MethodHandle}.
+ * <p>
+ * A handle is created once per method and adapted to {@code (Object, Object[])Object}.
+ * The prepared method is cached with the declaring class through {@link ClassValue},
+ * so it does not prevent the class from unloading.
+ * <p>
+ * If a handle cannot be created for the method, {@link ReflectionInvocationEngine} is used for the method instead.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class MethodHandleInvocationEngine implements InvocationEngine {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MethodHandleInvocationEngine.class);
+    private final InvocationEngine fallback = new ReflectionInvocationEngine();
+    private final InvocableCache invocables = new InvocableCache();
+
+    @Override
+    public Invocable prepare(Method method) {
+        return invocables.get(method, this::create);
+    }
+
+    @Override
+    public Invocable prepare(Constructor<?> constructor) {
+        return invocables.get(constructor, this::create);
+    }
+
+    private Invocable create(Method method) {
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Method handle is not available for [{}]. Use reflection.", method, e);
+            return fallback.prepare(method);
+        }
+
+        // (T, A1, ..., An)R -> (Object, Object[])Object
+        handle = handle.asFixedArity();
+        handle = handle.asType(handle.type().generic());
+        if (Modifier.isStatic(method.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return spread(handle, method.getParameterCount());
+    }
+
+    private Invocable create(Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            constructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Method handle is not available for [{}]. Use reflection.", constructor, e);
+            return fallback.prepare(constructor);
+        }
+
+        // (A1, ..., An)T -> (Object, Object[])Object
+        handle = handle.asFixedArity();
+        handle = handle.asType(handle.type().generic());
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return spread(handle, constructor.getParameterCount());
+    }
+
+    private Invocable spread(MethodHandle handle, int parameterCount) {
+        MethodHandle spreader = handle.asSpreader(Object[].class, parameterCount);
+        return (target, args) -> (Object) spreader.invokeExact(target, args);
+    }
+}
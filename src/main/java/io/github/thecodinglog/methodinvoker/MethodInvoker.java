@@ -3,6 +3,11 @@ package io.github.thecodinglog.methodinvoker;
 import io.github.thecodinglog.methodinvoker.annotations.DefaultMethod;
 import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 /**
  * Interface to invoke the object's method.
  * <p>
@@ -50,4 +55,111 @@ public interface MethodInvoker {
      * @exception MethodInvokeException thrown when failed to invoke the method
      */
     TypeDescribableObject invoke(String fullQualifiedClassName, String methodName, Context context);
+
+    /**
+     * Invoke the method of the object once for each context, and give each result to the sink in order.
+     * Results are not collected, so memory does not grow with the number of contexts.
+     * If an invocation fails, the exception is thrown and the remaining contexts are not invoked.
+     * <p>
+     * The default implementation invokes {@link #invoke(Object, String, Context)} for each context.
+     *
+     * @param object     the object the underlying method is invoked from
+     * @param methodName the method name to invoke, optional
+     * @param contexts   the contexts referenced to invoke method
+     * @param sink       receiver of the result of each invocation
+     * @throws MethodInvokeException thrown when failed to invoke the method
+     */
+    default void invokeAll(Object object, String methodName, Iterable<? extends Context> contexts,
+                           Consumer<? super TypeDescribableObject> sink) {
+        for (Context context : contexts) {
+            sink.accept(invoke(object, methodName, context));
+        }
+    }
+
+    /**
+     * Invoke the method of the class once for each context, and give each result to the sink in order.
+     * See {@link #invokeAll(Object, String, Iterable, Consumer)}
+     *
+     * @param clazz      the class of the method
+     * @param methodName the method name to invoke, optional
+     * @param contexts   the contexts referenced to invoke method
+     * @param sink       receiver of the result of each invocation
+     * @throws MethodInvokeException thrown when failed to invoke the method
+     */
+    default void invokeAll(Class<?> clazz, String methodName, Iterable<? extends Context> contexts,
+                           Consumer<? super TypeDescribableObject> sink) {
+        for (Context context : contexts) {
+            sink.accept(invoke(clazz, methodName, context));
+        }
+    }
+
+    /**
+     * Invoke the method of the class once for each context, and give each result to the sink in order.
+     * See {@link #invokeAll(Object, String, Iterable, Consumer)}
+     *
+     * @param fullQualifiedClassName the full qualified class name of the class
+     * @param methodName             the method name to invoke, optional
+     * @param contexts               the contexts referenced to invoke method
+     * @param sink                   receiver of the result of each invocation
+     * @throws MethodInvokeException thrown when failed to invoke the method
+     */
+    default void invokeAll(String fullQualifiedClassName, String methodName, Iterable<? extends Context> contexts,
+                           Consumer<? super TypeDescribableObject> sink) {
+        for (Context context : contexts) {
+            sink.accept(invoke(fullQualifiedClassName, methodName, context));
+        }
+    }
+
+    /**
+     * Invoke the method of the object on the executor.
+     * Both the resolution and the invocation run on the executor, so the calling thread is not blocked.
+     * <p>
+     * If the method returns a {@link CompletionStage}, the returned future completes with its value
+     * instead of the stage, without blocking a thread of the executor.
+     * Failures complete the future exceptionally with {@link java.util.concurrent.CompletionException}.
+     * Cancelling the future does not interrupt the method.
+     *
+     * @param object     the object the underlying method is invoked from
+     * @param methodName the method name to invoke, optional
+     * @param context    The context referenced to invoke method
+     * @param executor   executor to resolve and invoke the method on
+     * @return future of the result of the method
+     */
+    default CompletableFuture<TypeDescribableObject> invokeAsync(Object object, String methodName, Context context,
+                                                                 Executor executor) {
+        return CompletableFuture.supplyAsync(() -> invoke(object, methodName, context), executor)
+                .thenCompose(CompletionStages::unwrap);
+    }
+
+    /**
+     * Invoke the method of the class on the executor.
+     * See {@link #invokeAsync(Object, String, Context, Executor)}
+     *
+     * @param clazz      the class of the method
+     * @param methodName the method name to invoke, optional
+     * @param context    The context referenced to invoke method
+     * @param executor   executor to resolve and invoke the method on
+     * @return future of the result of the method
+     */
+    default CompletableFuture<TypeDescribableObject> invokeAsync(Class<?> clazz, String methodName, Context context,
+                                                                 Executor executor) {
+        return CompletableFuture.supplyAsync(() -> invoke(clazz, methodName, context), executor)
+                .thenCompose(CompletionStages::unwrap);
+    }
+
+    /**
+     * Invoke the method of the class on the executor.
+     * See {@link #invokeAsync(Object, String, Context, Executor)}
+     *
+     * @param fullQualifiedClassName the full qualified class name of the class
+     * @param methodName             the method name to invoke, optional
+     * @param context                The context referenced to invoke method
+     * @param executor               executor to resolve and invoke the method on
+     * @return future of the result of the method
+     */
+    default CompletableFuture<TypeDescribableObject> invokeAsync(String fullQualifiedClassName, String methodName,
+                                                                 Context context, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> invoke(fullQualifiedClassName, methodName, context), executor)
+                .thenCompose(CompletionStages::unwrap);
+    }
 }
@@ -44,6 +44,21 @@ interface MethodResolver {
      */
     PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, String methodName, Context context);
 
+    /**
+     * Resolve a method in the class, reporting the argument sources consulted while binding candidates.
+     * <p>
+     * See {@link #resolve(Class, String, Context)}
+     *
+     * @param aClass     the class to find
+     * @param methodName the method name to find. It would be real method name or the method qualifier value
+     * @param context    the context to find the best matches parameters
+     * @param recorder   the recorder to report consulted argument sources to
+     * @return Immutable object with method and argument
+     * @throws MethodNotFoundException If there is no suitable method or no public method exists
+     */
+    PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, String methodName, Context context,
+                                                   BindingRecorder recorder);
+
     /**
      * Resolve a method in the class.
      * <p>
@@ -1,25 +1,66 @@
 package io.github.thecodinglog.methodinvoker;
 
+import java.util.function.Consumer;
+
 /**
  * @author Jeongjin Kim
  * @since 2021-02-19
  */
 public interface ObjectFactory {
     /**
-     * Returns the new object of the specified class.
+     * Returns the object of the specified class.
+     * It is a new object, unless the {@link InstanceScope} of the class shares objects.
      *
      * @param className full qualified class name to be instantiated
      * @param context   The context referenced to create the object
-     * @return the new object of the specified class
+     * @return the object of the specified class
      */
     Object createObject(String className, Context context);
 
     /**
-     * Returns the new object of the specified class.
+     * Returns the object of the specified class loaded by the specified class loader.
+     * See {@link #createObject(String, Context)}
+     *
+     * @param className   full qualified class name to be instantiated
+     * @param classLoader class loader to load the class
+     * @param context     The context referenced to create the object
+     * @return the object of the specified class
+     */
+    default Object createObject(String className, ClassLoader classLoader, Context context) {
+        Class<?> aClass;
+        try {
+            aClass = Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new ObjectInitializationException(e.getMessage(), e);
+        }
+        return createObject(aClass, context);
+    }
+
+    /**
+     * Returns the object of the specified class.
+     * See {@link #createObject(String, Context)}
      *
      * @param clazz   the class to be instantiated
      * @param context The context referenced to create the object
-     * @return the new object of the specified class
+     * @return the object of the specified class
      */
     Object createObject(Class<?> clazz, Context context);
+
+    /**
+     * Create an object of the specified class for each context, and give each object to the sink in order.
+     * Objects are not collected, so memory does not grow with the number of contexts.
+     * Objects are shared as {@link #createObject(Class, Context)} does.
+     * If a creation fails, the exception is thrown and no object is created for the remaining contexts.
+     * <p>
+     * The default implementation calls {@link #createObject(Class, Context)} for each context.
+     *
+     * @param clazz    the class to be instantiated
+     * @param contexts The contexts referenced to create the objects
+     * @param sink     receiver of the created objects
+     */
+    default void createObjects(Class<?> clazz, Iterable<? extends Context> contexts, Consumer<Object> sink) {
+        for (Context context : contexts) {
+            sink.accept(createObject(clazz, context));
+        }
+    }
 }
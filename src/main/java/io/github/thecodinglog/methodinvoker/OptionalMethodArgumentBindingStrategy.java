@@ -6,9 +6,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Binds an object in the context by optional parameter names.
  * <p>
- * If it cannot be retrieved by the parameter type in the context,
- * {@link ParameterBindingResult} in which the object is {@code null} is returned to check the next parameter.
- * When it cannot be found, the processing depends on the implementation using that strategy.
+ * If the parameter name is not optional in the context,
+ * {@link BindingStatus#SKIPPED} is returned to try the next strategy.
  *
  * @author Jeongjin Kim
  * @since 2023-01-17
@@ -17,13 +16,18 @@ public class OptionalMethodArgumentBindingStrategy implements MethodArgumentBind
     private static final Logger log = LoggerFactory.getLogger(OptionalMethodArgumentBindingStrategy.class);
 
     @Override
-    public ParameterBindingResult tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
+    public BindingStatus tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
         if (context.optionalParameters().contains(parameterAndArgumentHolder.getParameterName())) {
             log.debug("[{}] is bind by optional flag.", parameterAndArgumentHolder.getParameterName());
-            return new ParameterBindingResult(parameterAndArgumentHolder, true);
+            return BindingStatus.BOUND;
         } else {
             log.debug("[{}] is skipped. The parameter is not optional.", parameterAndArgumentHolder.getParameterName());
-            return new ParameterBindingResult(null, true);
+            return BindingStatus.SKIPPED;
         }
     }
+
+    @Override
+    public ArgumentSource sourceOf(ParameterAndArgumentHolder parameterAndArgumentHolder) {
+        return ArgumentSource.optional();
+    }
 }
@@ -14,7 +14,7 @@ import java.lang.reflect.Type;
  * @author Jeongjin Kim
  * @since 2021-02-23
  */
-interface ParameterAndArgumentHolder extends Prioritizable {
+public interface ParameterAndArgumentHolder extends Prioritizable {
     /**
      * @return Parameter name
      */
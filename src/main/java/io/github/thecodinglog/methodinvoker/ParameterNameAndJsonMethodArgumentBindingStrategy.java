@@ -1,6 +1,5 @@
 package io.github.thecodinglog.methodinvoker;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,39 +13,61 @@ import org.slf4j.LoggerFactory;
  * Handling in case of failure depends on the implementation using that strategy.
  * <p>
  * If it cannot be retrieved by the method name in the context,
- * {@link ParameterBindingResult} in which the object is {@code null} is
- * returned to check the next parameter.
+ * {@link BindingStatus#SKIPPED} is returned to try the next strategy.
+ * If the string cannot be converted, {@link BindingStatus#SKIPPED_BY_VALUE} is returned.
+ * <p>
+ * Strategies created without an {@link ObjectMapper} share one default mapper.
+ * Readers are cached per parameter type, including the type arguments of generic types.
  *
  * @author Jeongjin Kim
  * @since 2021-06-07
  */
 public class ParameterNameAndJsonMethodArgumentBindingStrategy implements MethodArgumentBindingStrategy {
     private static final Logger log = LoggerFactory.getLogger(ParameterNameAndJsonMethodArgumentBindingStrategy.class);
+    private final JsonArgumentReader jsonArgumentReader;
+
+    /**
+     * Create the strategy with the shared default {@link ObjectMapper}.
+     */
+    public ParameterNameAndJsonMethodArgumentBindingStrategy() {
+        this.jsonArgumentReader = JsonArgumentReader.shared();
+    }
+
+    /**
+     * Create the strategy with the specified {@link ObjectMapper}.
+     * It should not be configured any more after given.
+     *
+     * @param objectMapper mapper to read json strings
+     */
+    public ParameterNameAndJsonMethodArgumentBindingStrategy(ObjectMapper objectMapper) {
+        this.jsonArgumentReader = new JsonArgumentReader(objectMapper);
+    }
 
     @Override
-    public ParameterBindingResult tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
+    public BindingStatus tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
         if (context.hasKey(parameterAndArgumentHolder.getParameterName())) {
             TypeDescribableObject argCandidate =
                     context.getValueByKey(parameterAndArgumentHolder.getParameterName());
-            Object paramObject = null;
             if (argCandidate.getObject() instanceof String) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                try {
-                    paramObject = objectMapper.readValue(argCandidate.getObject(String.class)
-                            , (Class<?>) parameterAndArgumentHolder.getParameterType());
-                } catch (JsonProcessingException | ClassCastException e) {
-                    log.debug(e.getMessage());
-                    paramObject = null;
-                }
-            }
+                Object paramObject = jsonArgumentReader.read(argCandidate.getObject(String.class),
+                        parameterAndArgumentHolder.getParameterType());
 
-            if (paramObject != null && parameterAndArgumentHolder.canAccept(paramObject.getClass())) {
-                parameterAndArgumentHolder.accept(
-                        new TypeDescribableObject(paramObject, parameterAndArgumentHolder.getParameterType()));
-                log.debug("Parameter name json binding of {}", parameterAndArgumentHolder.getParameterName());
-                return new ParameterBindingResult(parameterAndArgumentHolder, false);
+                // It is read as the generic parameter type, so the raw class of the object is not checked again.
+                if (paramObject != null) {
+                    parameterAndArgumentHolder.accept(
+                            new TypeDescribableObject(paramObject, parameterAndArgumentHolder.getParameterType()));
+                    log.debug("Parameter name json binding of {}", parameterAndArgumentHolder.getParameterName());
+                    return BindingStatus.BOUND;
+                }
+                // Whether it binds depends on the json string itself.
+                return BindingStatus.SKIPPED_BY_VALUE;
             }
         }
-        return new ParameterBindingResult(null, true);
+        return BindingStatus.SKIPPED;
+    }
+
+    @Override
+    public ArgumentSource sourceOf(ParameterAndArgumentHolder parameterAndArgumentHolder) {
+        return ArgumentSource.json(parameterAndArgumentHolder.getParameterName());
     }
 }
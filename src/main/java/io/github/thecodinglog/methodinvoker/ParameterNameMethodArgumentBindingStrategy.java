@@ -11,8 +11,7 @@ import org.slf4j.LoggerFactory;
  * Handling in case of failure depends on the implementation using that strategy.
  * <p>
  * If it cannot be retrieved by the method name in the context,
- * {@link ParameterBindingResult} in which the object is {@code null} is
- * returned to check the next parameter.
+ * {@link BindingStatus#SKIPPED} is returned to try the next strategy.
  *
  * @author Jeongjin Kim
  * @since 2021-03-26
@@ -21,7 +20,7 @@ public class ParameterNameMethodArgumentBindingStrategy implements MethodArgumen
     private static final Logger log = LoggerFactory.getLogger(ParameterNameMethodArgumentBindingStrategy.class);
 
     @Override
-    public ParameterBindingResult tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
+    public BindingStatus tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
         // check by parameter name
         if (context.hasKey(parameterAndArgumentHolder.getParameterName())) {
             TypeDescribableObject argCandidate =
@@ -29,28 +28,33 @@ public class ParameterNameMethodArgumentBindingStrategy implements MethodArgumen
             if (parameterAndArgumentHolder.canAccept(argCandidate.getType())) {
                 parameterAndArgumentHolder.accept(argCandidate);
                 log.debug("Parameter [{}] has bound by name.", parameterAndArgumentHolder.getParameterName());
-                return new ParameterBindingResult(parameterAndArgumentHolder, false);
+                return BindingStatus.BOUND;
             } else if (argCandidate.getObject() != null &&
                     parameterAndArgumentHolder.canAccept(argCandidate.getObject().getClass())) {
                 parameterAndArgumentHolder.accept(argCandidate);
                 log.debug("Parameter [{}] has bound by name.", parameterAndArgumentHolder.getParameterName());
-                return new ParameterBindingResult(parameterAndArgumentHolder, false);
+                return BindingStatus.BOUND;
             } else if (argCandidate.getObject() != null &&
                     parameterAndArgumentHolder.canAccept(argCandidate.getObject())) {
                 parameterAndArgumentHolder.accept(argCandidate);
                 log.debug("Parameter [{}] has bound by name.", parameterAndArgumentHolder.getParameterName());
-                return new ParameterBindingResult(parameterAndArgumentHolder, false);
+                return BindingStatus.BOUND;
             } else {
                 log.debug("Parameter [{}] is skipped. (type mismatch). " +
                                 "Parameter type is [{}] but the object type is [{}]",
                         parameterAndArgumentHolder.getParameterName(),
                         parameterAndArgumentHolder.getParameterType(),
                         argCandidate.getType());
-                return new ParameterBindingResult(null, true);
+                return BindingStatus.SKIPPED;
             }
         } else {
             log.debug("No parameter name [{}] in the context.", parameterAndArgumentHolder.getParameterName());
-            return new ParameterBindingResult(null, true);
+            return BindingStatus.SKIPPED;
         }
     }
+
+    @Override
+    public ArgumentSource sourceOf(ParameterAndArgumentHolder parameterAndArgumentHolder) {
+        return ArgumentSource.key(parameterAndArgumentHolder.getParameterName());
+    }
 }
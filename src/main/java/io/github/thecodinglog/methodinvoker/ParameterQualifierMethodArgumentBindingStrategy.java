@@ -11,12 +11,10 @@ import org.slf4j.LoggerFactory;
  * compatible with the parameter type, it is considered a failure.
  * Handling in case of failure depends on the implementation using that strategy.
  * <p>
- * If it cannot be retrieved by the method qualifier in the context, it is considered a failure.
- * the next processing is depends on the implementation using that strategy.
+ * If it cannot be retrieved by the method qualifier in the context, {@link BindingStatus#FAILED} is returned.
  * <p>
  * If {@link ParameterQualifier} does not exist in the parameter,
- * {@link ParameterBindingResult} in which the object is {@code null} is
- * returned so that the next parameter can be checked.
+ * {@link BindingStatus#SKIPPED} is returned so that the next strategy can be tried.
  *
  * @author Jeongjin Kim
  * @since 2021-03-26
@@ -25,7 +23,7 @@ public class ParameterQualifierMethodArgumentBindingStrategy implements MethodAr
     private static final Logger log = LoggerFactory.getLogger(ParameterQualifierMethodArgumentBindingStrategy.class);
 
     @Override
-    public ParameterBindingResult tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
+    public BindingStatus tryBind(ParameterAndArgumentHolder parameterAndArgumentHolder, Context context) {
         String contextKey;
         ParameterQualifier annotation = parameterAndArgumentHolder.getParameterAnnotation(ParameterQualifier.class);
         if (annotation != null) {
@@ -40,12 +38,18 @@ public class ParameterQualifierMethodArgumentBindingStrategy implements MethodAr
                             String.format("Annotated parameter [%s] is not a instance of [%s]"
                                     , contextKey, parameterAndArgumentHolder.getParameterType()));
                 log.debug("Annotation binding of {}", contextKey);
-                return new ParameterBindingResult(parameterAndArgumentHolder, false);
+                return BindingStatus.BOUND;
             } else {
-                return new ParameterBindingResult(null, false);
+                return BindingStatus.FAILED;
             }
         } else {
-            return new ParameterBindingResult(null, true);
+            return BindingStatus.SKIPPED;
         }
     }
+
+    @Override
+    public ArgumentSource sourceOf(ParameterAndArgumentHolder parameterAndArgumentHolder) {
+        ParameterQualifier annotation = parameterAndArgumentHolder.getParameterAnnotation(ParameterQualifier.class);
+        return annotation == null ? null : ArgumentSource.key(annotation.value());
+    }
 }
@@ -0,0 +1,156 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+
+import java.lang.reflect.Method;
+
+/**
+ * Immutable and thread safe call site of a method whose constructor, method and argument bindings are resolved once.
+ * <p>
+ * It is created by {@link StrictMethodInvoker#prepare(Class, String, Context)} from a schema context.
+ * Each {@link #invoke(Context)} only fetches the arguments from the given context and invokes the method.
+ * The given context must have the same {@link ContextShape} with the schema context.
+ * Otherwise it fails before creating an object or invoking the method.
+ * <p>
+ * When it is prepared for a class, the object is created by the resolved constructor for each invocation,
+ * or shared by the {@link InstanceScope} of the class.
+ * When it is prepared for an object, the method is invoked on the object.
+ * <p>
+ * Each invocation is reported to the {@link InvocationListener} of the invoker that prepared it.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class PreparedInvocation {
+    private final ContextShape schema;
+    private final Object target;
+    private final ScopedInstances scopedInstances;
+    private final InvocationPlan constructorPlan;
+    private final InvocationPlan methodPlan;
+    private final InvocationListener listener;
+
+    PreparedInvocation(ContextShape schema, Object target, ScopedInstances scopedInstances,
+                       InvocationPlan constructorPlan, InvocationPlan methodPlan, InvocationListener listener) {
+        this.schema = schema;
+        this.target = target;
+        this.scopedInstances = scopedInstances;
+        this.constructorPlan = constructorPlan;
+        this.methodPlan = methodPlan;
+        this.listener = listener;
+    }
+
+    /**
+     * @return shape of the schema context that every context to invoke with must have
+     */
+    public ContextShape schema() {
+        return schema;
+    }
+
+    /**
+     * @return method to invoke
+     */
+    public Method method() {
+        return methodPlan.method();
+    }
+
+    /**
+     * Invoke the prepared method with the arguments fetched from the context.
+     *
+     * @param context the context of the same shape with the schema context
+     * @return the result of the method
+     * @throws MethodInvokeException thrown when the context does not match the schema or failed to invoke the method
+     */
+    public TypeDescribableObject invoke(Context context) {
+        ContextShape shape = context == null ? ContextShape.EMPTY : context.shape();
+        if (!schema.equals(shape))
+            throw new MethodInvokeException("The context does not match the schema of the prepared invocation. : "
+                    + methodPlan.method().toGenericString());
+        return invokeMatched(context);
+    }
+
+    /**
+     * Invoke the prepared method with the context already known to match the schema,
+     * and report it to the listener if any.
+     *
+     * @param context the context of the same shape with the schema context
+     * @return the result of the method
+     */
+    TypeDescribableObject invokeMatched(Context context) {
+        if (listener == null)
+            return invokeMatched(context, null);
+
+        Class<?> targetClass = constructorPlan == null ? target.getClass()
+                : constructorPlan.constructor().getDeclaringClass();
+        InvocationTrace trace = new InvocationTrace(targetClass, methodPlan.method().getName());
+        trace.planned();
+        Throwable failure = null;
+        try {
+            return invokeMatched(context, trace);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            trace.finish(listener, failure);
+        }
+    }
+
+    /**
+     * Invoke the prepared method with the context already known to match the schema.
+     *
+     * @param context the context of the same shape with the schema context
+     * @param trace   trace of the invocation. nullable
+     * @return the result of the method
+     */
+    TypeDescribableObject invokeMatched(Context context, InvocationTrace trace) {
+        if (trace != null)
+            trace.methodSelected(methodPlan.method(), methodPlan.strategies());
+        if (constructorPlan == null)
+            return invoke(target, context, trace);
+        if (trace != null)
+            trace.constructorSelected(constructorPlan.constructor(), constructorPlan.strategies());
+
+        long start = InvocationTrace.start(trace);
+        Object[] args = constructorPlan.arguments(context);
+        InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+
+        Object object;
+        start = InvocationTrace.start(trace);
+        try {
+            object = scopedInstances.acquire(constructorPlan.constructor(), constructorPlan.invocable(), args);
+        } catch (Error | ObjectInitializationException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ObjectInitializationException(e.getMessage(), e);
+        } finally {
+            InvocationTrace.stop(trace, InvocationPhase.OBJECT_CONSTRUCTION, start);
+        }
+        try {
+            return invoke(object, context, trace);
+        } finally {
+            scopedInstances.release(object);
+        }
+    }
+
+    private TypeDescribableObject invoke(Object object, Context context, InvocationTrace trace) {
+        long start = InvocationTrace.start(trace);
+        Object[] args = methodPlan.arguments(context);
+        InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+
+        Object result;
+        start = InvocationTrace.start(trace);
+        Object event = FlightRecorder.beginInvocation();
+        boolean failed = true;
+        try {
+            result = methodPlan.invocable().invoke(object, args);
+            failed = false;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw StrictMethodInvoker.wrapTargetFailure(e);
+        } finally {
+            FlightRecorder.endInvocation(event, object, methodPlan.method(), failed);
+            InvocationTrace.stop(trace, InvocationPhase.METHOD_INVOCATION, start);
+        }
+        return new TypeDescribableObject(result, methodPlan.method().getGenericReturnType());
+    }
+}
@@ -1,11 +1,19 @@
 package io.github.thecodinglog.methodinvoker;
 
 /**
+ * Something that has a priority to be picked among candidates.
+ *
  * @author Jeongjin Kim
  * @since 2021-03-12
  */
-interface Prioritizable {
+public interface Prioritizable {
+    /**
+     * Lowest priority.
+     */
     int PRIORITY_LOWEST = Integer.MAX_VALUE;
+    /**
+     * Highest priority.
+     */
     int PRIORITY_HIGHEST = 0;
 
     /**
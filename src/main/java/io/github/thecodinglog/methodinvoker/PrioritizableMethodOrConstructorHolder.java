@@ -19,10 +19,25 @@ import java.util.List;
 final class PrioritizableMethodOrConstructorHolder implements Prioritizable {
     private final MethodOrConstructor methodOrConstructor;
     private final List<? extends ParameterAndArgumentHolder> parameterAndArgumentHolders;
+    private final List<ArgumentSource> argumentSources;
+    private final List<Class<? extends MethodArgumentBindingStrategy>> strategies;
     private final int priority;
 
     public PrioritizableMethodOrConstructorHolder(MethodOrConstructor methodOrConstructor,
                                                   List<? extends ParameterAndArgumentHolder> holders) {
+        this(methodOrConstructor, holders, null);
+    }
+
+    public PrioritizableMethodOrConstructorHolder(MethodOrConstructor methodOrConstructor,
+                                                  List<? extends ParameterAndArgumentHolder> holders,
+                                                  List<ArgumentSource> argumentSources) {
+        this(methodOrConstructor, holders, argumentSources, null);
+    }
+
+    public PrioritizableMethodOrConstructorHolder(MethodOrConstructor methodOrConstructor,
+                                                  List<? extends ParameterAndArgumentHolder> holders,
+                                                  List<ArgumentSource> argumentSources,
+                                                  List<Class<? extends MethodArgumentBindingStrategy>> strategies) {
         if (methodOrConstructor == null)
             throw new IllegalArgumentException("The methodOrConstructor can not be null.");
 
@@ -30,6 +45,8 @@ final class PrioritizableMethodOrConstructorHolder implements Prioritizable {
         this.parameterAndArgumentHolders = holders == null ?
                 Collections.unmodifiableList(new ArrayList<>()) :
                 Collections.unmodifiableList(holders);
+        this.argumentSources = argumentSources == null ? null : Collections.unmodifiableList(argumentSources);
+        this.strategies = strategies == null ? null : Collections.unmodifiableList(strategies);
 
         int highestPriority = 0;
         for (Prioritizable parameterAndArgumentHolder : this.parameterAndArgumentHolders) {
@@ -55,6 +72,24 @@ final class PrioritizableMethodOrConstructorHolder implements Prioritizable {
         return methodOrConstructor.getMethod();
     }
 
+    /**
+     * Return the sources the arguments are bound from, in parameter order.
+     *
+     * @return argument sources. {@code null} if the sources are unknown
+     */
+    public List<ArgumentSource> argumentSources() {
+        return argumentSources;
+    }
+
+    /**
+     * Return the types of the strategies the arguments are bound by, in parameter order.
+     *
+     * @return strategy types. {@code null} if not recorded
+     */
+    public List<Class<? extends MethodArgumentBindingStrategy>> strategies() {
+        return strategies;
+    }
+
     /**
      * Return actual arguments. if no argument exists, return an array with length 0;
      *
@@ -77,7 +112,7 @@ final class PrioritizableMethodOrConstructorHolder implements Prioritizable {
         return args;
     }
 
-    private Object defaultValueOfPrimitiveType(Type parameterType) {
+    static Object defaultValueOfPrimitiveType(Type parameterType) {
         if (parameterType == byte.class) {
             return (byte) 0;
         } else if (parameterType == short.class) {
@@ -15,7 +15,8 @@ import java.util.Map;
  * The argument can save using {@link PrioritizableParameterAndArgumentHolder#accept} method.
  * If the argument is not acceptable, {@link IllegalArgumentException} will be thrown.
  * <p>
- * The priority is determined by the parameter class and the argument class. The priority is used for resolving the
+ * The priority is determined by the distance from the argument class to the parameter class,
+ * through super classes and interfaces. See {@link TypeDistance}. The priority is used for resolving the
  * constructor. If more than one constructor is listed as a candidate, this priority is used to make the final decision.
  * <p>
  * See, {@link ConstructorResolver}
@@ -30,7 +31,6 @@ final class PrioritizableParameterAndArgumentHolder implements ParameterAndArgum
     private Object actualArgument;
     private boolean isResolved;
     private int priority;
-    private ResolvableType resolvableType;
 
     public PrioritizableParameterAndArgumentHolder(MethodOrConstructorParameter methodParameter) {
         this.methodOrConstructorParameter = methodParameter;
@@ -120,12 +120,16 @@ final class PrioritizableParameterAndArgumentHolder implements ParameterAndArgum
             return priority;
         }
 
-        ResolvableType type = ResolvableType.forType(argType);
-        while (!(type.resolve() == null || type.resolve() == resolvableType.resolve())) {
-            priority += PRIORITY_STEP;
-            type = type.getSuperType();
-        }
-        return priority;
+        Class<?> argClass = argType instanceof Class ? (Class<?>) argType : ResolvableType.forType(argType).resolve();
+        if (argClass == null)
+            return priority;
+        argClass = ClassUtils.resolvePrimitiveIfNecessary(argClass);
+
+        // Farther than any super type if the parameter type is not a super type of the argument type.
+        int distance = TypeDistance.distance(argClass, methodOrConstructorParameter.getParameterType());
+        if (distance < 0)
+            distance = TypeDistance.maxDistance(argClass) + 1;
+        return priority + distance * PRIORITY_STEP;
     }
 
     /**
@@ -149,12 +153,9 @@ final class PrioritizableParameterAndArgumentHolder implements ParameterAndArgum
     //todo Remove Dependencies
     @Override
     public boolean canAccept(Type type) {
-        if (this.resolvableType == null)
-            this.resolvableType = ResolvableType.forMethodParameter(methodOrConstructorParameter.getMethodParameter());
-
         //todo In case of number, int -> long, float or double conversion, etc.,
         // if possible, conversion attempt function added, NumberUtils
-        return TypeUtils.isAssignable(resolvableType, type);
+        return TypeUtils.isAssignable(methodOrConstructorParameter.getGenericParameterType(), type);
     }
 
     /**
@@ -2,6 +2,8 @@ package io.github.thecodinglog.methodinvoker;
 
 /**
  * Exception raised when failed to pick priority.
+ * <p>
+ * It is always wrapped by the resolver before reaching users, so it does not capture a stack trace.
  *
  * @author Jeongjin Kim
  * @since 2021-03-10
@@ -13,7 +15,7 @@ final class PriorityPickingException extends RuntimeException {
      * @param msg the detail message
      */
     public PriorityPickingException(String msg) {
-        super(msg);
+        super(msg, null, false, false);
     }
 
     /**
@@ -24,6 +26,6 @@ final class PriorityPickingException extends RuntimeException {
      * @param cause the root cause
      */
     public PriorityPickingException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, false, false);
     }
 }
@@ -1,37 +1,38 @@
 package io.github.thecodinglog.methodinvoker;
 
-import io.github.thecodinglog.methodinvoker.annotations.ConstructorQualifier;
-import io.github.thecodinglog.methodinvoker.annotations.DefaultConstructor;
 import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueQualifierException;
 
 import java.lang.reflect.Constructor;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /**
+ * Selects public constructors using {@link ClassMetadata}, so the class is scanned only once.
+ *
  * @author Jeongjin Kim
  * @since 2021-03-12
  */
 final class PublicOnlyCandidateConstructorsSelector implements CandidateConstructorsSelector {
     @Override
     public Constructor<?>[] select(Class<?> clazz, String qualifier) {
-        Constructor<?>[] constructors = clazz.getConstructors();
-        if (constructors.length == 0) {
-            Constructor<?>[] declaredConstructors = clazz.getDeclaredConstructors();
-            if (declaredConstructors.length == 1 && declaredConstructors[0].getModifiers() == 0)
-                constructors = declaredConstructors;
-            else
-                throw new ConstructorNotFoundException("No public constructor exists. : " + clazz.getName());
-        }
+        ClassMetadata.Constructors constructors = ClassMetadata.of(clazz).constructors();
+        if (constructors.isEmpty())
+            throw new ConstructorNotFoundException("No public constructor exists. : " + clazz.getName());
+
+        if (constructors.hasTooManyDefaults())
+            throw new TooManyDefaultException("Too many default constructors.");
 
-        Constructor<?> defaultConstructor = getDefaultConstructorIfExists(constructors);
+        Constructor<?> defaultConstructor = constructors.defaultConstructor();
 
         if (qualifier == null) {
-            return defaultConstructor == null ? constructors : new Constructor[]{defaultConstructor};
+            return defaultConstructor == null
+                    ? constructors.constructors().clone() : new Constructor[]{defaultConstructor};
         } else {
-            Constructor<?> qualifiedConstructor = getQualifiedConstructorIfExists(constructors, qualifier);
+            if (constructors.duplicateQualifier() != null)
+                throw new NoUniqueQualifierException(
+                        "[" + constructors.duplicateQualifier() + "] is not unique qualifier.");
+            if (!constructors.hasQualifiers())
+                throw new ConstructorNotFoundException("No constructor qualifier exists.");
+
+            Constructor<?> qualifiedConstructor = constructors.qualifiedConstructor(qualifier);
             if (qualifiedConstructor == null)
                 throw new ConstructorNotFoundException(
                         "No public constructor [" + qualifier + "] of class [" + clazz.getName() + "]");
@@ -39,38 +40,4 @@ final class PublicOnlyCandidateConstructorsSelector implements CandidateConstruc
                 return new Constructor[]{qualifiedConstructor};
         }
     }
-
-    private Constructor<?> getQualifiedConstructorIfExists(Constructor<?>[] constructors, String qualifier) {
-        Map<String, Constructor<?>> qualifiedConstructors = new HashMap<>(constructors.length);
-        for (Constructor<?> constructor : constructors) {
-            ConstructorQualifier annotation = constructor.getAnnotation(ConstructorQualifier.class);
-            if (annotation != null) {
-                if (qualifiedConstructors.containsKey(annotation.value()))
-                    throw new NoUniqueQualifierException("[" + annotation.value() + "] is not unique qualifier.");
-                qualifiedConstructors.put(annotation.value(), constructor);
-            }
-        }
-        if (qualifiedConstructors.size() == 0)
-            throw new ConstructorNotFoundException("No constructor qualifier exists.");
-        return qualifiedConstructors.get(qualifier);
-    }
-
-    /**
-     * @param constructors to find
-     * @return default constructor. nullable
-     */
-    private Constructor<?> getDefaultConstructorIfExists(Constructor<?>[] constructors) {
-        List<Constructor<?>> defaultConstructors = new ArrayList<>(constructors.length);
-        for (Constructor<?> constructor : constructors) {
-            if (constructor.getAnnotation(DefaultConstructor.class) != null)
-                defaultConstructors.add(constructor);
-        }
-        if (defaultConstructors.size() > 1)
-            throw new TooManyDefaultException("Too many default constructors.");
-        else if (defaultConstructors.size() == 1)
-            return defaultConstructors.get(0);
-        else
-            return null;
-
-    }
 }
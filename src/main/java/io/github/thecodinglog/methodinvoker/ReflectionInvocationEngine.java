@@ -0,0 +1,40 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link InvocationEngine} that invokes the method using {@link Method#invoke(Object, Object...)}
+ * and the constructor using {@link Constructor#newInstance(Object...)}.
+ * <p>
+ * {@link InvocationTargetException} is unwrapped and the exception thrown by the method is thrown.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ReflectionInvocationEngine implements InvocationEngine {
+    @Override
+    public Invocable prepare(Method method) {
+        method.setAccessible(true);
+        return (target, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    @Override
+    public Invocable prepare(Constructor<?> constructor) {
+        constructor.setAccessible(true);
+        return (target, args) -> {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+}
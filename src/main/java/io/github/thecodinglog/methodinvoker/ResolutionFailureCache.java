@@ -0,0 +1,191 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread safe cache of failed method and constructor resolutions by class, method name and {@link ContextShape}.
+ * <p>
+ * A resolution that failed for a context fails again for any context of the same shape,
+ * so the failure is replayed for the TTL without scanning and binding the candidates again.
+ * Failures are kept with the class through {@link ClassValue}, so the cache does not prevent classes from unloading.
+ * Each class keeps at most the configured number of failures. When it is full, new failures are not cached.
+ * <p>
+ * A context without a shape never hits the cache.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class ResolutionFailureCache {
+    /**
+     * Default maximum number of failures kept for each class.
+     */
+    public static final int DEFAULT_MAX_FAILURES_PER_CLASS = 64;
+    /**
+     * Default TTL of failures, in milliseconds.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 10_000;
+
+    private final int maxFailuresPerClass;
+    private final long ttlNanos;
+    private final ClassValue<ConcurrentMap<Key, Failure>> failures =
+            new ClassValue<ConcurrentMap<Key, Failure>>() {
+                @Override
+                protected ConcurrentMap<Key, Failure> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Create the cache that keeps {@link #DEFAULT_MAX_FAILURES_PER_CLASS} failures for each class
+     * for {@link #DEFAULT_TTL_MILLIS}.
+     */
+    public ResolutionFailureCache() {
+        this(DEFAULT_MAX_FAILURES_PER_CLASS, DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create the cache of the specified size and TTL.
+     *
+     * @param maxFailuresPerClass maximum number of failures kept for each class. {@code 0} to not cache failures
+     * @param ttl                 TTL of failures. {@code 0} to not cache failures
+     * @param unit                unit of the TTL
+     * @throws IllegalArgumentException if the size or the TTL is negative
+     */
+    public ResolutionFailureCache(int maxFailuresPerClass, long ttl, TimeUnit unit) {
+        if (maxFailuresPerClass < 0 || ttl < 0)
+            throw new IllegalArgumentException("Size and TTL cannot be negative. : " + maxFailuresPerClass
+                    + ", " + ttl);
+        this.maxFailuresPerClass = maxFailuresPerClass;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * Discard all failures of the class.
+     *
+     * @param clazz class whose failures are discarded
+     */
+    public void invalidate(Class<?> clazz) {
+        failures.remove(clazz);
+    }
+
+    /**
+     * @param aClass     class of the method
+     * @param methodName method name or qualifier. nullable
+     * @param context    context to resolve with. nullable
+     * @return message of the cached failure. {@code null} if not cached
+     */
+    String findMethodFailure(Class<?> aClass, String methodName, Context context) {
+        return find(aClass, methodName, false, context);
+    }
+
+    /**
+     * @param aClass  class of the constructor
+     * @param context context to resolve with. nullable
+     * @return message of the cached failure. {@code null} if not cached
+     */
+    String findConstructorFailure(Class<?> aClass, Context context) {
+        return find(aClass, null, true, context);
+    }
+
+    /**
+     * @param aClass     class of the method
+     * @param methodName method name or qualifier. nullable
+     * @param context    context the resolution failed with. nullable
+     * @param message    message of the failure
+     */
+    void putMethodFailure(Class<?> aClass, String methodName, Context context, String message) {
+        put(aClass, methodName, false, context, message);
+    }
+
+    /**
+     * @param aClass  class of the constructor
+     * @param context context the resolution failed with. nullable
+     * @param message message of the failure
+     */
+    void putConstructorFailure(Class<?> aClass, Context context, String message) {
+        put(aClass, null, true, context, message);
+    }
+
+    private String find(Class<?> aClass, String methodName, boolean constructor, Context context) {
+        if (maxFailuresPerClass == 0 || ttlNanos == 0)
+            return null;
+        ContextShape shape = shapeOf(context);
+        if (shape == null)
+            return null;
+        ConcurrentMap<Key, Failure> classFailures = failures.get(aClass);
+        if (classFailures.isEmpty())
+            return null;
+        Key key = new Key(methodName, constructor, shape);
+        Failure failure = classFailures.get(key);
+        if (failure == null)
+            return null;
+        if (failure.isExpired(System.nanoTime())) {
+            classFailures.remove(key, failure);
+            return null;
+        }
+        return failure.message;
+    }
+
+    private void put(Class<?> aClass, String methodName, boolean constructor, Context context, String message) {
+        if (maxFailuresPerClass == 0 || ttlNanos == 0)
+            return;
+        ContextShape shape = shapeOf(context);
+        if (shape == null)
+            return;
+        ConcurrentMap<Key, Failure> classFailures = failures.get(aClass);
+        long now = System.nanoTime();
+        if (classFailures.size() >= maxFailuresPerClass)
+            classFailures.values().removeIf(failure -> failure.isExpired(now));
+        if (classFailures.size() < maxFailuresPerClass)
+            classFailures.put(new Key(methodName, constructor, shape), new Failure(message, now + ttlNanos));
+    }
+
+    private ContextShape shapeOf(Context context) {
+        return context == null ? ContextShape.EMPTY : context.shape();
+    }
+
+    private static final class Failure {
+        private final String message;
+        private final long expiresAt;
+
+        private Failure(String message, long expiresAt) {
+            this.message = message;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private static final class Key {
+        private final String methodName;
+        private final boolean constructor;
+        private final ContextShape shape;
+
+        private Key(String methodName, boolean constructor, ContextShape shape) {
+            this.methodName = methodName;
+            this.constructor = constructor;
+            this.shape = shape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return constructor == key.constructor && Objects.equals(methodName, key.methodName)
+                    && shape.equals(key.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Objects.hashCode(methodName) + Boolean.hashCode(constructor)) + shape.hashCode();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe holder of the objects shared by {@link InstanceScope}.
+ * <p>
+ * Shared objects are kept for each constructor and the identities of its arguments,
+ * so objects created from different values of the context are never mixed up.
+ * They are kept with the class through {@link ClassValue}, so they do not prevent classes from unloading,
+ * except that {@link InstanceScope#THREAD_LOCAL} objects are kept while their threads are alive.
+ * Each class keeps at most {@link #MAX_KEYS_PER_CLASS} argument identities for a scope.
+ * When it is full, a new object is created for each invocation like {@link InstanceScope#PROTOTYPE}.
+ * <p>
+ * At most the pool size of {@link InstanceScope#POOLED} objects exist for each pool.
+ * When all of them are borrowed, {@link #acquire} waits until one is released, at most for the borrow timeout,
+ * so a target that invokes its own class again with an exhausted pool fails instead of waiting forever.
+ * Objects given out by {@link #create} are never released, so they are not borrowed from pools.
+ * <p>
+ * Each singleton is created under a {@link ReentrantLock} of its own key rather than a monitor,
+ * so a slow constructor only blocks the invocations waiting for the same object,
+ * and a constructor that blocks does not pin the carrier of a virtual thread.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class ScopedInstances {
+    static final int MAX_KEYS_PER_CLASS = 64;
+
+    private final InstanceScopes scopes;
+    private final ClassValue<Instances> instances = new ClassValue<Instances>() {
+        @Override
+        protected Instances computeValue(Class<?> type) {
+            return new Instances(type, scopes.scopeOf(type), scopes.poolSizeOf(type),
+                    scopes.borrowTimeoutMillisOf(type));
+        }
+    };
+    private final ConcurrentMap<Identity, Pool> borrowed = new ConcurrentHashMap<>();
+
+    ScopedInstances(InstanceScopes scopes) {
+        this.scopes = scopes;
+    }
+
+    /**
+     * Returns the object of the scope of the class for an invocation, creating it by the constructor if needed.
+     * A pooled object is borrowed, waiting until one is released if all of them are borrowed.
+     *
+     * @param constructor constructor of the object
+     * @param invocable   prepared constructor
+     * @param args        arguments of the constructor
+     * @return the object. It must be given to {@link #release(Object)} after use
+     * @throws Throwable thrown by the constructor, {@link InterruptedException} if interrupted while waiting,
+     *                   or {@link ObjectInitializationException} if no pooled object is released in the timeout
+     */
+    Object acquire(Constructor<?> constructor, InvocationEngine.Invocable invocable, Object[] args)
+            throws Throwable {
+        Instances classInstances = instances.get(constructor.getDeclaringClass());
+        if (classInstances.scope != InstanceScope.POOLED)
+            return create(classInstances, constructor, invocable, args);
+
+        Pool pool = classInstances.pool(new Key(constructor, args));
+        if (pool == null)
+            return invocable.invoke(null, args);
+        Object object = pool.borrow(invocable, args);
+        borrowed.put(new Identity(object), pool);
+        return object;
+    }
+
+    /**
+     * Returns the object of the scope of the class to be used without release, creating it by the constructor
+     * if needed. Singletons and thread local objects are shared, and others are created.
+     *
+     * @param constructor constructor of the object
+     * @param invocable   prepared constructor
+     * @param args        arguments of the constructor
+     * @return the object
+     * @throws Throwable thrown by the constructor
+     */
+    Object create(Constructor<?> constructor, InvocationEngine.Invocable invocable, Object[] args)
+            throws Throwable {
+        return create(instances.get(constructor.getDeclaringClass()), constructor, invocable, args);
+    }
+
+    private Object create(Instances classInstances, Constructor<?> constructor, InvocationEngine.Invocable invocable,
+                          Object[] args) throws Throwable {
+        switch (classInstances.scope) {
+            case SINGLETON:
+                return classInstances.singleton(new Key(constructor, args), invocable);
+            case THREAD_LOCAL:
+                return classInstances.threadLocal(new Key(constructor, args), invocable);
+            default:
+                return invocable.invoke(null, args);
+        }
+    }
+
+    /**
+     * Return the object after use. A pooled object becomes idle in its pool.
+     *
+     * @param object the object returned by {@link #acquire}
+     */
+    void release(Object object) {
+        if (object == null || borrowed.isEmpty())
+            return;
+        Pool pool = borrowed.remove(new Identity(object));
+        if (pool != null)
+            pool.giveBack(object);
+    }
+
+    private static final class Instances {
+        private final String className;
+        private final InstanceScope scope;
+        private final int poolSize;
+        private final long borrowTimeoutMillis;
+        private final ConcurrentMap<Key, Singleton> singletons = new ConcurrentHashMap<>();
+        private final ThreadLocal<Map<Key, Object>> threadLocals = ThreadLocal.withInitial(HashMap::new);
+        private final ConcurrentMap<Key, Pool> pools = new ConcurrentHashMap<>();
+
+        private Instances(Class<?> type, InstanceScope scope, int poolSize, long borrowTimeoutMillis) {
+            this.className = type.getName();
+            this.scope = scope;
+            this.poolSize = poolSize;
+            this.borrowTimeoutMillis = borrowTimeoutMillis;
+        }
+
+        private Object singleton(Key key, InvocationEngine.Invocable invocable) throws Throwable {
+            Singleton singleton = singletons.get(key);
+            if (singleton == null) {
+                if (singletons.size() >= MAX_KEYS_PER_CLASS)
+                    return invocable.invoke(null, key.args);
+                singleton = singletons.computeIfAbsent(key, k -> new Singleton());
+            }
+            return singleton.get(invocable, key.args);
+        }
+
+        private Object threadLocal(Key key, InvocationEngine.Invocable invocable) throws Throwable {
+            Map<Key, Object> objects = threadLocals.get();
+            Object object = objects.get(key);
+            if (object == null) {
+                object = invocable.invoke(null, key.args);
+                if (objects.size() < MAX_KEYS_PER_CLASS)
+                    objects.put(key, object);
+            }
+            return object;
+        }
+
+        private Pool pool(Key key) {
+            Pool pool = pools.get(key);
+            if (pool == null && pools.size() < MAX_KEYS_PER_CLASS)
+                pool = pools.computeIfAbsent(key, k -> new Pool(className, poolSize, borrowTimeoutMillis));
+            return pool;
+        }
+    }
+
+    /**
+     * Singleton of a key, created under the lock of the key.
+     */
+    private static final class Singleton {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Object object;
+
+        private Object get(InvocationEngine.Invocable invocable, Object[] args) throws Throwable {
+            Object current = object;
+            if (current != null)
+                return current;
+            lock.lock();
+            try {
+                if (object == null)
+                    object = invocable.invoke(null, args);
+                return object;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Idle objects and the permits to borrow, one for each object that may exist.
+     */
+    private static final class Pool {
+        private final String className;
+        private final BlockingQueue<Object> idle;
+        private final Semaphore permits;
+        private final long timeoutMillis;
+
+        private Pool(String className, int size, long timeoutMillis) {
+            this.className = className;
+            this.idle = new ArrayBlockingQueue<>(size);
+            this.permits = new Semaphore(size);
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        private Object borrow(InvocationEngine.Invocable invocable, Object[] args) throws Throwable {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+            if (!acquired)
+                throw new ObjectInitializationException(String.format(
+                        "No pooled object of [%s] was released in %d ms.", className, timeoutMillis));
+            Object object = idle.poll();
+            if (object != null)
+                return object;
+            try {
+                return invocable.invoke(null, args);
+            } catch (Throwable e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void giveBack(Object object) {
+            idle.offer(object);
+            permits.release();
+        }
+    }
+
+    /**
+     * Constructor and its arguments compared by identity.
+     */
+    private static final class Key {
+        private final Constructor<?> constructor;
+        private final Object[] args;
+        private final int hash;
+
+        private Key(Constructor<?> constructor, Object[] args) {
+            this.constructor = constructor;
+            this.args = args;
+            int h = constructor.hashCode();
+            for (Object arg : args) {
+                h = 31 * h + System.identityHashCode(arg);
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            if (hash != key.hash || !constructor.equals(key.constructor) || args.length != key.args.length)
+                return false;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] != key.args[i])
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Identity {
+        private final Object object;
+
+        private Identity(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity && ((Identity) o).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.thecodinglog.methodinvoker;
 
-import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
-
 import java.lang.reflect.Type;
 import java.util.*;
 
@@ -15,6 +13,7 @@ import java.util.*;
 public class SingleLevelContext implements Context {
     private final Set<String> optionalParameters = new HashSet<>();
     private final Map<String, TypeDescribableObject> store = new HashMap<>();
+    private ContextShape shape;
 
     @Override
     public TypeDescribableObject getValueByKey(String key) {
@@ -23,13 +22,18 @@ public class SingleLevelContext implements Context {
 
     @Override
     public TypeDescribableObject getOneValueByType(Type type) {
+        return lookupByType(type).valueOrThrow();
+    }
+
+    @Override
+    public TypeLookup lookupByType(Type type) {
         List<String> keys = extractKeysByType(type);
         if (keys.size() > 1)
-            throw new NoUniqueElementException("No unique.");
+            return TypeLookup.ambiguous();
         else if (keys.size() == 0)
-            throw new NoSuchElementException("No element.");
+            return TypeLookup.missing();
         else
-            return store.get(keys.get(0));
+            return TypeLookup.found(keys.get(0), store.get(keys.get(0)));
     }
 
     private List<String> extractKeysByType(Type type) {
@@ -54,6 +58,7 @@ public class SingleLevelContext implements Context {
     @Override
     public void add(String key, TypeDescribableObject typeDescribableObject) {
         store.put(key, typeDescribableObject);
+        shape = null;
     }
 
     /**
@@ -62,10 +67,18 @@ public class SingleLevelContext implements Context {
      */
     public void addOptionalParameter(String key) {
         optionalParameters.add(key);
+        shape = null;
     }
 
     @Override
     public Set<String> optionalParameters() {
         return Collections.unmodifiableSet(optionalParameters);
     }
+
+    @Override
+    public ContextShape shape() {
+        if (shape == null)
+            shape = ContextShape.of(store, optionalParameters);
+        return shape;
+    }
 }
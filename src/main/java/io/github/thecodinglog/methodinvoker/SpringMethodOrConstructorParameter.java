@@ -1,6 +1,5 @@
 package io.github.thecodinglog.methodinvoker;
 
-import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 
 import java.lang.annotation.Annotation;
@@ -21,7 +20,7 @@ final class SpringMethodOrConstructorParameter implements MethodOrConstructorPar
         else
             throw new IllegalStateException();
 
-        methodParameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+        methodParameter.initParameterNameDiscovery(CachingParameterNameDiscoverer.getInstance());
     }
 
     @Override
@@ -17,7 +17,6 @@ import java.util.List;
  * @since 2021-02-23
  */
 final class StrictConstructorResolver implements ConstructorResolver {
-    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StrictConstructorResolver.class);
     private final CandidateConstructorsSelector candidateResolver;
     private final MethodArgumentBinder methodArgumentBinder;
     private final PriorityPicker priorityPicker;
@@ -33,49 +32,75 @@ final class StrictConstructorResolver implements ConstructorResolver {
 
     @Override
     public PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, Context context) {
-        // Constructor selection
-        Constructor<?>[] constructors;
+        return resolve(aClass, context, new BindingRecorder());
+    }
+
+    @Override
+    public PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, Context context,
+                                                          BindingRecorder recorder) {
+        Object event = FlightRecorder.beginResolution();
+        int candidates = -1;
+        PrioritizableMethodOrConstructorHolder selected = null;
         try {
-            constructors = candidateResolver.select(aClass, null);
-        } catch (TooManyDefaultException | NoUniqueQualifierException e) {
-            throw new ConstructorNotFoundException(e.getMessage(), e);
-        } catch (ConstructorNotFoundException e) {
-            throw e;
-        }
+            // Constructor selection
+            InvocationTrace trace = recorder.trace();
+            long start = InvocationTrace.start(trace);
+            Constructor<?>[] constructors;
+            try {
+                constructors = candidateResolver.select(aClass, null);
+            } catch (TooManyDefaultException | NoUniqueQualifierException e) {
+                throw new ConstructorNotFoundException(e.getMessage(), e);
+            } catch (ConstructorNotFoundException e) {
+                throw e;
+            }
+
+            candidates = constructors.length;
 
-        // Sort by number of parameter length. many -> few
-        Arrays.sort(constructors, (e1, e2) -> Integer.compare(e2.getParameterCount(), e1.getParameterCount()));
+            // Sort by number of parameter length. many -> few
+            Arrays.sort(constructors, (e1, e2) -> Integer.compare(e2.getParameterCount(), e1.getParameterCount()));
+            InvocationTrace.stop(trace, InvocationPhase.CANDIDATE_SELECTION, start);
 
-        // The parameter length of the constructor that we checked before
-        int beforeConstructorParameterLength = Integer.MAX_VALUE;
+            // The parameter length of the constructor that we checked before
+            int beforeConstructorParameterLength = Integer.MAX_VALUE;
 
-        List<PrioritizableMethodOrConstructorHolder> candidatesConstructors = new ArrayList<>(constructors.length);
+            List<PrioritizableMethodOrConstructorHolder> candidatesConstructors = new ArrayList<>(constructors.length);
+            start = InvocationTrace.start(trace);
 
-        for (Constructor<?> constructor : constructors) {
-            log.info("Try binding for constructor. [{}]", constructor.toGenericString());
-            if (beforeConstructorParameterLength > constructor.getParameters().length
-                    && candidatesConstructors.size() > 0)
-                break;
-            PrioritizableMethodOrConstructorHolder holder;
+            for (Constructor<?> constructor : constructors) {
+                if (beforeConstructorParameterLength > constructor.getParameters().length
+                        && candidatesConstructors.size() > 0)
+                    break;
+                BindingTracer.candidate(constructor);
+                PrioritizableMethodOrConstructorHolder holder;
+                try {
+                    holder = methodArgumentBinder.bind(new MethodOrConstructor(constructor), context, recorder);
+                } catch (MethodBindingException e) {
+                    throw new ConstructorNotFoundException(e.getMessage(), e);
+                }
+                if (holder != null)
+                    candidatesConstructors.add(holder);
+
+                beforeConstructorParameterLength = constructor.getParameters().length;
+            }
+            InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+            if (candidatesConstructors.size() == 0)
+                throw new ConstructorNotFoundException("No candidate constructors : " + aClass.getName());
+
+            Prioritizable pick;
+            start = InvocationTrace.start(trace);
             try {
-                holder = methodArgumentBinder.bind(new MethodOrConstructor(constructor), context);
-            } catch (MethodBindingException e) {
+                pick = priorityPicker.pick(candidatesConstructors);
+            } catch (PriorityPickingException e) {
                 throw new ConstructorNotFoundException(e.getMessage(), e);
+            } finally {
+                InvocationTrace.stop(trace, InvocationPhase.PRIORITY_PICKING, start);
             }
-            if (holder != null)
-                candidatesConstructors.add(holder);
-
-            beforeConstructorParameterLength = constructor.getParameters().length;
-        }
-        if (candidatesConstructors.size() == 0)
-            throw new ConstructorNotFoundException("No candidate constructors : " + aClass.getName());
-
-        Prioritizable pick;
-        try {
-            pick = priorityPicker.pick(candidatesConstructors);
-        } catch (PriorityPickingException e) {
-            throw new ConstructorNotFoundException(e.getMessage(), e);
+            selected = (PrioritizableMethodOrConstructorHolder) pick;
+            BindingTracer.selected(selected.constructor());
+            return selected;
+        } finally {
+            FlightRecorder.endResolution(event, aClass, null, candidates,
+                    selected == null ? null : selected.constructor(), context);
         }
-        return (PrioritizableMethodOrConstructorHolder) pick;
     }
 }
@@ -3,6 +3,8 @@ package io.github.thecodinglog.methodinvoker;
 import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
 
 /**
  * It is an implementation of MethodInvoker.
@@ -13,27 +15,175 @@ import java.lang.reflect.InvocationTargetException;
  * and then the method whose parameter type matches the context.
  * <p>
  * All parameters of the method match the context
+ * <p>
+ * The resolved method is cached by the class, the method name and the {@link ContextShape} of the context.
+ * When the context of the next call has the same shape, the arguments are fetched from the context
+ * without resolving the method again.
+ * <p>
+ * When invoking by class or class name, the method is resolved before the constructor,
+ * so no object is created if no method can be bound.
+ * The constructor and the method are cached together as a {@link PreparedInvocation}.
+ * <p>
+ * {@link #prepare(Class, String, Context)} resolves the constructor and the method once for a schema context
+ * and returns a {@link PreparedInvocation} that only fetches the arguments on each invocation.
+ * {@code invokeAll} keeps the plan of the last context in a batch,
+ * so contexts of the same shape are invoked without looking up the caches.
+ * <p>
+ * Failed resolutions are also cached by {@link ResolutionFailureCache} and replayed for its TTL.
+ * {@link #invalidate(Class)} discards everything cached for a class.
+ * <p>
+ * Objects created by class or class name are shared by their {@link InstanceScope}.
+ * <p>
+ * Each invocation is reported to the {@link InvocationListener} with the timings of its phases, if registered.
+ * <p>
+ * The method is invoked through {@link InvocationEngine}.
+ * Runtime exceptions thrown by the method are thrown as they are.
+ * Errors and checked exceptions are wrapped in {@link MethodInvokeException}
+ * whose cause is an {@link InvocationTargetException} of the thrown one, as {@link Method#invoke} reports them.
  *
  * @author Jeongjin Kim
  * @since 2021-03-25
  */
 public final class StrictMethodInvoker implements MethodInvoker {
-    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StrictMethodInvoker.class);
-    private final MethodArgumentBinder binder = new TypeMatchableMethodArgumentBinder();
     private final PriorityPicker picker = new HighestPriorityPicker();
+    private final MethodResolver methodResolver;
+    private final ConstructorResolver constructorResolver;
+    private final DefaultObjectFactory objectFactory;
+    private final InvocationPlanCache<InvocationPlan> planCache = new InvocationPlanCache<>();
+    private final InvocationPlanCache<PreparedInvocation> classPlanCache = new InvocationPlanCache<>();
+    private final InvocationEngine invocationEngine;
+    private final ClassLoadingCache classLoadingCache;
+    private final ScopedInstances scopedInstances;
+    private final ResolutionFailureCache resolutionFailureCache;
+    private final InvocationListener listener;
+
+    /**
+     * Create the invoker that invokes methods and constructors through {@link BytecodeInvocationEngine}.
+     */
+    public StrictMethodInvoker() {
+        this(new BytecodeInvocationEngine());
+    }
+
+    /**
+     * Create the invoker that invokes methods and constructors through the specified engine.
+     *
+     * @param invocationEngine engine to invoke the resolved method and constructor
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine) {
+        this(invocationEngine, ArgumentBindingPipeline.defaults());
+    }
+
+    /**
+     * Create the invoker that binds arguments through the specified pipeline
+     * and invokes methods and constructors through the specified engine.
+     *
+     * @param invocationEngine engine to invoke the resolved method and constructor
+     * @param bindingPipeline  strategies to bind arguments of methods and constructors
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine, ArgumentBindingPipeline bindingPipeline) {
+        this(invocationEngine, bindingPipeline, new ClassLoadingCache());
+    }
+
+    /**
+     * Create the invoker that binds arguments through the specified pipeline,
+     * invokes methods and constructors through the specified engine
+     * and loads classes by name through the specified cache.
+     *
+     * @param invocationEngine  engine to invoke the resolved method and constructor
+     * @param bindingPipeline   strategies to bind arguments of methods and constructors
+     * @param classLoadingCache cache to load classes by full qualified class name
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine, ArgumentBindingPipeline bindingPipeline,
+                               ClassLoadingCache classLoadingCache) {
+        this(invocationEngine, bindingPipeline, classLoadingCache, InstanceScopes.annotated());
+    }
+
+    /**
+     * Create the invoker that binds arguments through the specified pipeline,
+     * invokes methods and constructors through the specified engine,
+     * loads classes by name through the specified cache
+     * and shares objects created by class or class name by the specified scopes.
+     *
+     * @param invocationEngine  engine to invoke the resolved method and constructor
+     * @param bindingPipeline   strategies to bind arguments of methods and constructors
+     * @param classLoadingCache cache to load classes by full qualified class name
+     * @param instanceScopes    scopes of objects created by class or class name
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine, ArgumentBindingPipeline bindingPipeline,
+                               ClassLoadingCache classLoadingCache, InstanceScopes instanceScopes) {
+        this(invocationEngine, bindingPipeline, classLoadingCache, instanceScopes, new ResolutionFailureCache());
+    }
+
+    /**
+     * Create the invoker that binds arguments through the specified pipeline,
+     * invokes methods and constructors through the specified engine,
+     * loads classes by name through the specified cache,
+     * shares objects created by class or class name by the specified scopes
+     * and replays failed resolutions from the specified cache.
+     *
+     * @param invocationEngine       engine to invoke the resolved method and constructor
+     * @param bindingPipeline        strategies to bind arguments of methods and constructors
+     * @param classLoadingCache      cache to load classes by full qualified class name
+     * @param instanceScopes         scopes of objects created by class or class name
+     * @param resolutionFailureCache cache of failed method and constructor resolutions
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine, ArgumentBindingPipeline bindingPipeline,
+                               ClassLoadingCache classLoadingCache, InstanceScopes instanceScopes,
+                               ResolutionFailureCache resolutionFailureCache) {
+        this(invocationEngine, bindingPipeline, classLoadingCache, instanceScopes, resolutionFailureCache, null);
+    }
+
+    /**
+     * Create the invoker that binds arguments through the specified pipeline,
+     * invokes methods and constructors through the specified engine,
+     * loads classes by name through the specified cache,
+     * shares objects created by class or class name by the specified scopes,
+     * replays failed resolutions from the specified cache
+     * and reports each invocation to the specified listener.
+     *
+     * @param invocationEngine       engine to invoke the resolved method and constructor
+     * @param bindingPipeline        strategies to bind arguments of methods and constructors
+     * @param classLoadingCache      cache to load classes by full qualified class name
+     * @param instanceScopes         scopes of objects created by class or class name
+     * @param resolutionFailureCache cache of failed method and constructor resolutions
+     * @param listener               listener of invocations and object creations. nullable
+     */
+    public StrictMethodInvoker(InvocationEngine invocationEngine, ArgumentBindingPipeline bindingPipeline,
+                               ClassLoadingCache classLoadingCache, InstanceScopes instanceScopes,
+                               ResolutionFailureCache resolutionFailureCache, InvocationListener listener) {
+        MethodArgumentBinder binder = new TypeMatchableMethodArgumentBinder(bindingPipeline);
+        this.invocationEngine = invocationEngine;
+        this.classLoadingCache = classLoadingCache;
+        this.resolutionFailureCache = resolutionFailureCache;
+        this.listener = listener;
+        this.methodResolver = new StrictMethodResolver(
+                new PublicCandidateMethodsSelector(),
+                binder,
+                picker
+        );
+        this.constructorResolver = new StrictConstructorResolver(
+                new PublicOnlyCandidateConstructorsSelector(),
+                binder,
+                picker
+        );
+        this.scopedInstances = new ScopedInstances(instanceScopes);
+        this.objectFactory = new DefaultObjectFactory(constructorResolver, invocationEngine, classLoadingCache,
+                scopedInstances, listener);
+    }
 
-    private final MethodResolver methodResolver = new StrictMethodResolver(
-            new PublicCandidateMethodsSelector(),
-            binder,
-            picker
-    );
-    private final ObjectFactory objectFactory = new DefaultObjectFactory(
-            new StrictConstructorResolver(
-                    new PublicOnlyCandidateConstructorsSelector(),
-                    binder,
-                    picker
-            )
-    );
+    /**
+     * Discard everything cached for the class, such as its metadata, resolved plans and failed resolutions.
+     * It should be called when the class is redefined at runtime.
+     *
+     * @param clazz class whose cached resolutions are discarded
+     */
+    public void invalidate(Class<?> clazz) {
+        ClassMetadata.invalidate(clazz);
+        planCache.invalidate(clazz);
+        classPlanCache.invalidate(clazz);
+        objectFactory.invalidate(clazz);
+        resolutionFailureCache.invalidate(clazz);
+    }
 
     /**
      * @return objectFactory
@@ -44,50 +194,302 @@ public final class StrictMethodInvoker implements MethodInvoker {
 
     @Override
     public TypeDescribableObject invoke(Object object, String methodName, Context context) {
-        PrioritizableMethodOrConstructorHolder resolve;
+        if (listener == null)
+            return invoke(object, methodName, context, null);
+
+        InvocationTrace trace = new InvocationTrace(object.getClass(), methodName);
+        Throwable failure = null;
         try {
-            if (methodName != null) {
-                resolve = methodResolver.resolve(object.getClass(), methodName, context);
+            return invoke(object, methodName, context, trace);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            trace.finish(listener, failure);
+        }
+    }
 
-            } else {
-                resolve = methodResolver.resolve(object.getClass(), context);
+    private TypeDescribableObject invoke(Object object, String methodName, Context context, InvocationTrace trace) {
+        InvocationPlan plan = planCache.find(object.getClass(), methodName, context);
+        if (plan != null) {
+            if (trace != null) {
+                trace.planned();
+                trace.methodSelected(plan.method(), plan.strategies());
             }
-        } catch (MethodNotFoundException e) {
-            throw new MethodInvokeException(e.getMessage(), e);
+            long start = InvocationTrace.start(trace);
+            Object[] args = plan.arguments(context);
+            InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+            return invoke(object, plan.method(), plan.invocable(), args, trace);
         }
 
-        log.debug("Method [{}] selected.",resolve.method().toGenericString());
+        BindingRecorder recorder = new BindingRecorder(trace);
+        PrioritizableMethodOrConstructorHolder resolve = resolveMethod(object.getClass(), methodName, context,
+                recorder);
+        if (trace != null)
+            trace.methodSelected(resolve.method(), resolve.strategies());
 
+        if (!recorder.isValueDependent()) {
+            plan = InvocationPlan.of(resolve, invocationEngine);
+            if (plan != null) {
+                planCache.put(object.getClass(), methodName, context, plan);
+                return invoke(object, plan.method(), plan.invocable(), resolve.args(), trace);
+            }
+        }
+
+        return invoke(object, resolve.method(), invocationEngine.prepare(resolve.method()), resolve.args(), trace);
+    }
+
+    /**
+     * @param e error or checked exception thrown by the target method
+     * @return exception to throw for it, with an {@link InvocationTargetException} of it as the cause
+     */
+    static MethodInvokeException wrapTargetFailure(Throwable e) {
+        InvocationTargetException targetException = new InvocationTargetException(e);
+        return new MethodInvokeException(targetException.getMessage(), targetException);
+    }
+
+    private TypeDescribableObject invoke(Object object, Method method, InvocationEngine.Invocable invocable,
+                                         Object[] args, InvocationTrace trace) {
         Object invoke;
+        long start = InvocationTrace.start(trace);
+        Object event = FlightRecorder.beginInvocation();
+        boolean failed = true;
         try {
-            resolve.method().setAccessible(true);
-            invoke = resolve.method().invoke(object, resolve.args());
-        } catch (IllegalAccessException e) {
-            throw new MethodInvokeException(e.getMessage(), e);
-        } catch (InvocationTargetException e) {
-            if (e.getTargetException() instanceof RuntimeException) {
-                throw (RuntimeException) e.getTargetException();
-            } else {
-                throw new MethodInvokeException(e.getMessage(), e);
-            }
+            invoke = invocable.invoke(object, args);
+            failed = false;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw wrapTargetFailure(e);
         } finally {
-            resolve.method().setAccessible(false);
+            FlightRecorder.endInvocation(event, object, method, failed);
+            InvocationTrace.stop(trace, InvocationPhase.METHOD_INVOCATION, start);
         }
 
-        return new TypeDescribableObject(invoke, resolve.method().getGenericReturnType());
+        return new TypeDescribableObject(invoke, method.getGenericReturnType());
     }
 
     @Override
     public TypeDescribableObject invoke(Class<?> clazz, String methodName, Context context) {
-        Object object = objectFactory.createObject(clazz, context);
+        if (listener == null)
+            return invoke(clazz, methodName, context, null);
 
-        return invoke(object, methodName, context);
+        InvocationTrace trace = new InvocationTrace(clazz, methodName);
+        Throwable failure = null;
+        try {
+            return invoke(clazz, methodName, context, trace);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            trace.finish(listener, failure);
+        }
+    }
+
+    private TypeDescribableObject invoke(Class<?> clazz, String methodName, Context context, InvocationTrace trace) {
+        PreparedInvocation prepared = classPlanCache.find(clazz, methodName, context);
+        if (prepared != null) {
+            if (trace != null)
+                trace.planned();
+            return prepared.invokeMatched(context, trace);
+        }
+
+        // The method is resolved before the constructor, so no object is created if the method cannot be bound.
+        BindingRecorder recorder = new BindingRecorder(trace);
+        PrioritizableMethodOrConstructorHolder method = resolveMethod(clazz, methodName, context, recorder);
+        PrioritizableMethodOrConstructorHolder constructor = resolveConstructor(clazz, context, recorder);
+
+        prepared = prepare(context == null ? ContextShape.EMPTY : context.shape(), constructor, method, recorder);
+        if (prepared != null) {
+            classPlanCache.put(clazz, methodName, context, prepared);
+            return prepared.invokeMatched(context, trace);
+        }
+
+        if (trace != null) {
+            trace.methodSelected(method.method(), method.strategies());
+            trace.constructorSelected(constructor.constructor(), constructor.strategies());
+        }
+        Object object;
+        long start = InvocationTrace.start(trace);
+        try {
+            object = scopedInstances.acquire(constructor.constructor(),
+                    invocationEngine.prepare(constructor.constructor()), constructor.args());
+        } catch (Error | ObjectInitializationException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ObjectInitializationException(e.getMessage(), e);
+        } finally {
+            InvocationTrace.stop(trace, InvocationPhase.OBJECT_CONSTRUCTION, start);
+        }
+        try {
+            return invoke(object, method.method(), invocationEngine.prepare(method.method()), method.args(), trace);
+        } finally {
+            scopedInstances.release(object);
+        }
     }
 
     @Override
     public TypeDescribableObject invoke(String fullQualifiedClassName, String methodName, Context context) {
-        Object object = objectFactory.createObject(fullQualifiedClassName, context);
+        return invoke(forName(fullQualifiedClassName), methodName, context);
+    }
+
+    @Override
+    public void invokeAll(Object object, String methodName, Iterable<? extends Context> contexts,
+                          Consumer<? super TypeDescribableObject> sink) {
+        PreparedInvocation prepared = null;
+        for (Context context : contexts) {
+            ContextShape shape = context == null ? ContextShape.EMPTY : context.shape();
+            if (prepared != null && prepared.schema().equals(shape)) {
+                sink.accept(prepared.invokeMatched(context));
+                continue;
+            }
+            TypeDescribableObject result = invoke(object, methodName, context);
+            InvocationPlan plan = planCache.find(object.getClass(), methodName, context);
+            prepared = plan == null || shape == null ? null
+                    : new PreparedInvocation(shape, object, null, null, plan, listener);
+            sink.accept(result);
+        }
+    }
+
+    @Override
+    public void invokeAll(Class<?> clazz, String methodName, Iterable<? extends Context> contexts,
+                          Consumer<? super TypeDescribableObject> sink) {
+        PreparedInvocation prepared = null;
+        for (Context context : contexts) {
+            ContextShape shape = context == null ? ContextShape.EMPTY : context.shape();
+            if (prepared != null && prepared.schema().equals(shape)) {
+                sink.accept(prepared.invokeMatched(context));
+                continue;
+            }
+            TypeDescribableObject result = invoke(clazz, methodName, context);
+            prepared = classPlanCache.find(clazz, methodName, context);
+            sink.accept(result);
+        }
+    }
+
+    @Override
+    public void invokeAll(String fullQualifiedClassName, String methodName, Iterable<? extends Context> contexts,
+                          Consumer<? super TypeDescribableObject> sink) {
+        invokeAll(forName(fullQualifiedClassName), methodName, contexts, sink);
+    }
+
+    /**
+     * Prepare the method of the object determined by method name and the schema context.
+     * The method and the source of each argument are resolved once against the schema context,
+     * and the returned call site can be invoked with any context of the same {@link ContextShape}.
+     *
+     * @param object     the object the underlying method is invoked from
+     * @param methodName the method name to invoke, optional
+     * @param schema     the context whose shape every context to invoke with must have
+     * @return reusable call site of the method
+     * @throws MethodInvokeException thrown when failed to resolve the method,
+     *                               or its arguments depend on the values of the context
+     */
+    public PreparedInvocation prepare(Object object, String methodName, Context schema) {
+        BindingRecorder recorder = new BindingRecorder();
+        PrioritizableMethodOrConstructorHolder method = resolveMethod(object.getClass(), methodName, schema, recorder);
+        InvocationPlan plan = recorder.isValueDependent() ? null : InvocationPlan.of(method, invocationEngine);
+        if (plan == null)
+            throw new MethodInvokeException("Arguments of the method depend on the values of the context. : "
+                    + method.method().toGenericString());
+        return new PreparedInvocation(shapeOf(schema), object, null, null, plan, listener);
+    }
+
+    /**
+     * Prepare the constructor and the method of the class determined by method name and the schema context.
+     * A new object is created for each invocation of the returned call site.
+     * See {@link #prepare(Object, String, Context)}
+     *
+     * @param clazz      the class of the method
+     * @param methodName the method name to invoke, optional
+     * @param schema     the context whose shape every context to invoke with must have
+     * @return reusable call site of the method
+     * @throws MethodInvokeException thrown when failed to resolve the method,
+     *                               or its arguments depend on the values of the context
+     */
+    public PreparedInvocation prepare(Class<?> clazz, String methodName, Context schema) {
+        ContextShape shape = shapeOf(schema);
+        BindingRecorder recorder = new BindingRecorder();
+        PrioritizableMethodOrConstructorHolder method = resolveMethod(clazz, methodName, schema, recorder);
+        PrioritizableMethodOrConstructorHolder constructor = resolveConstructor(clazz, schema, recorder);
+
+        PreparedInvocation prepared = prepare(shape, constructor, method, recorder);
+        if (prepared == null)
+            throw new MethodInvokeException("Arguments of the constructor or the method depend on the values of "
+                    + "the context. : " + method.method().toGenericString());
+        return prepared;
+    }
+
+    /**
+     * Prepare the constructor and the method of the class determined by method name and the schema context.
+     * See {@link #prepare(Class, String, Context)}
+     *
+     * @param fullQualifiedClassName the full qualified class name of the class
+     * @param methodName             the method name to invoke, optional
+     * @param schema                 the context whose shape every context to invoke with must have
+     * @return reusable call site of the method
+     * @throws MethodInvokeException thrown when failed to resolve the method,
+     *                               or its arguments depend on the values of the context
+     */
+    public PreparedInvocation prepare(String fullQualifiedClassName, String methodName, Context schema) {
+        return prepare(forName(fullQualifiedClassName), methodName, schema);
+    }
+
+    private PreparedInvocation prepare(ContextShape shape, PrioritizableMethodOrConstructorHolder constructor,
+                                       PrioritizableMethodOrConstructorHolder method, BindingRecorder recorder) {
+        if (shape == null || recorder.isValueDependent())
+            return null;
+        InvocationPlan constructorPlan = InvocationPlan.of(constructor, invocationEngine);
+        InvocationPlan methodPlan = InvocationPlan.of(method, invocationEngine);
+        if (constructorPlan == null || methodPlan == null)
+            return null;
+        return new PreparedInvocation(shape, null, scopedInstances, constructorPlan, methodPlan, listener);
+    }
+
+    private PrioritizableMethodOrConstructorHolder resolveMethod(Class<?> clazz, String methodName, Context context,
+                                                                 BindingRecorder recorder) {
+        String failure = resolutionFailureCache.findMethodFailure(clazz, methodName, context);
+        if (failure != null)
+            throw new MethodInvokeException(failure, new MethodNotFoundException(failure));
+
+        PrioritizableMethodOrConstructorHolder resolve;
+        try {
+            resolve = methodResolver.resolve(clazz, methodName, context, recorder);
+        } catch (MethodNotFoundException e) {
+            if (!recorder.isValueDependent())
+                resolutionFailureCache.putMethodFailure(clazz, methodName, context, e.getMessage());
+            throw new MethodInvokeException(e.getMessage(), e);
+        }
+        return resolve;
+    }
+
+    private PrioritizableMethodOrConstructorHolder resolveConstructor(Class<?> clazz, Context context,
+                                                                      BindingRecorder recorder) {
+        String failure = resolutionFailureCache.findConstructorFailure(clazz, context);
+        if (failure != null)
+            throw new ConstructorNotFoundException(failure);
+
+        try {
+            return constructorResolver.resolve(clazz, context, recorder);
+        } catch (ConstructorNotFoundException e) {
+            if (!recorder.isValueDependent())
+                resolutionFailureCache.putConstructorFailure(clazz, context, e.getMessage());
+            throw e;
+        }
+    }
+
+    private Class<?> forName(String fullQualifiedClassName) {
+        try {
+            return classLoadingCache.forName(fullQualifiedClassName);
+        } catch (ClassNotFoundException e) {
+            throw new ObjectInitializationException(e.getMessage(), e);
+        }
+    }
 
-        return invoke(object, methodName, context);
+    private ContextShape shapeOf(Context schema) {
+        ContextShape shape = schema == null ? ContextShape.EMPTY : schema.shape();
+        if (shape == null)
+            throw new IllegalArgumentException("The schema context has no shape.");
+        return shape;
     }
 }
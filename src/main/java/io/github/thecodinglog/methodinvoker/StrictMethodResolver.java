@@ -12,7 +12,6 @@ import java.util.List;
  * @since 2021-03-10
  */
 final class StrictMethodResolver implements MethodResolver {
-    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StrictMethodResolver.class);
     private final CandidateMethodsSelector candidateMethodsSelector;
     private final MethodArgumentBinder methodArgumentBinder;
     private final PriorityPicker priorityPicker;
@@ -27,39 +26,68 @@ final class StrictMethodResolver implements MethodResolver {
 
     @Override
     public PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, String methodName, Context context) {
-        Method[] methods = candidateMethodsSelector.select(aClass, methodName);
+        return resolve(aClass, methodName, context, new BindingRecorder());
+    }
+
+    @Override
+    public PrioritizableMethodOrConstructorHolder resolve(Class<?> aClass, String methodName, Context context,
+                                                          BindingRecorder recorder) {
+        Object event = FlightRecorder.beginResolution();
+        int candidates = -1;
+        PrioritizableMethodOrConstructorHolder selected = null;
+        try {
+            InvocationTrace trace = recorder.trace();
+            long start = InvocationTrace.start(trace);
+            Method[] methods = candidateMethodsSelector.select(aClass, methodName);
+            candidates = methods.length;
 
-        // Sort bt parameter length, many -> few
-        Arrays.sort(methods, (e1, e2) -> Integer.compare(e2.getParameterCount(), e1.getParameterCount()));
+            // Sort bt parameter length, many -> few
+            Arrays.sort(methods, (e1, e2) -> Integer.compare(e2.getParameterCount(), e1.getParameterCount()));
+            InvocationTrace.stop(trace, InvocationPhase.CANDIDATE_SELECTION, start);
 
-        int beforeConstructorParameterLength = Integer.MAX_VALUE;
+            int beforeConstructorParameterLength = Integer.MAX_VALUE;
 
-        List<PrioritizableMethodOrConstructorHolder> candidatesMethods = new ArrayList<>(methods.length);
+            List<PrioritizableMethodOrConstructorHolder> candidatesMethods = new ArrayList<>(methods.length);
+            start = InvocationTrace.start(trace);
 
-        for (Method method : methods) {
-            log.info("Try binding for method. [{}]", method.toGenericString());
-            if (beforeConstructorParameterLength > method.getParameters().length && candidatesMethods.size() > 0)
-                break;
+            for (Method method : methods) {
+                if (beforeConstructorParameterLength > method.getParameters().length && candidatesMethods.size() > 0)
+                    break;
 
-            PrioritizableMethodOrConstructorHolder holder =
-                    methodArgumentBinder.bind(new MethodOrConstructor(method), context);
-            if (holder != null)
-                candidatesMethods.add(holder);
+                BindingTracer.candidate(method);
+                PrioritizableMethodOrConstructorHolder holder;
+                try {
+                    holder = methodArgumentBinder.bind(new MethodOrConstructor(method), context, recorder);
+                } catch (MethodBindingException e) {
+                    throw new MethodNotFoundException(e.getMessage(), e);
+                }
+                if (holder != null)
+                    candidatesMethods.add(holder);
 
-            beforeConstructorParameterLength = method.getParameters().length;
-        }
-        if (candidatesMethods.size() == 0)
-            throw new MethodNotFoundException(
-                    String.format("No suitable method. : Class[%s], Method[%s]", aClass.getName(), methodName));
+                beforeConstructorParameterLength = method.getParameters().length;
+            }
+            InvocationTrace.stop(trace, InvocationPhase.ARGUMENT_BINDING, start);
+            if (candidatesMethods.size() == 0)
+                throw new MethodNotFoundException(
+                        String.format("No suitable method. : Class[%s], Method[%s]", aClass.getName(), methodName));
 
-        Prioritizable pick;
-        try {
-            pick = priorityPicker.pick(candidatesMethods);
-        } catch (PriorityPickingException e) {
-            throw new MethodNotFoundException(
-                    String.format("PriorityPicker exception : %s", aClass.getName()), e);
+            Prioritizable pick;
+            start = InvocationTrace.start(trace);
+            try {
+                pick = priorityPicker.pick(candidatesMethods);
+            } catch (PriorityPickingException e) {
+                throw new MethodNotFoundException(
+                        String.format("PriorityPicker exception : %s", aClass.getName()), e);
+            } finally {
+                InvocationTrace.stop(trace, InvocationPhase.PRIORITY_PICKING, start);
+            }
+            selected = (PrioritizableMethodOrConstructorHolder) pick;
+            BindingTracer.selected(selected.method());
+            return selected;
+        } finally {
+            FlightRecorder.endResolution(event, aClass, methodName, candidates,
+                    selected == null ? null : selected.method(), context);
         }
-        return (PrioritizableMethodOrConstructorHolder) pick;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package io.github.thecodinglog.methodinvoker;
 
+import io.github.thecodinglog.methodinvoker.exceptions.StackTraceOption;
+
 /**
  * The exception is raised when more than one default value exists.
  *
@@ -13,7 +15,7 @@ class TooManyDefaultException extends RuntimeException {
      * @param msg the detail message
      */
     public TooManyDefaultException(String msg) {
-        super(msg);
+        super(msg, null, true, StackTraceOption.isWritable());
     }
 
     /**
@@ -24,6 +26,6 @@ class TooManyDefaultException extends RuntimeException {
      * @param cause the root cause
      */
     public TooManyDefaultException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, true, StackTraceOption.isWritable());
     }
 }
@@ -0,0 +1,87 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.util.*;
+
+/**
+ * Distances from a class to its super classes and interfaces.
+ * <p>
+ * The distance is the least number of steps through super classes or interfaces.
+ * For example, the distance from {@code ArrayList} to {@code AbstractList} and {@code List} is 1,
+ * and to {@code Collection} is 2.
+ * {@link Object} is always the farthest, one step farther than any other super type.
+ * <p>
+ * All distances of a class are computed at once when first asked,
+ * and kept with the class through {@link ClassValue}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class TypeDistance {
+    private static final ClassValue<Distances> DISTANCES = new ClassValue<Distances>() {
+        @Override
+        protected Distances computeValue(Class<?> type) {
+            return new Distances(type);
+        }
+    };
+
+    private TypeDistance() {
+    }
+
+    /**
+     * @param from sub class
+     * @param to   super class or interface
+     * @return distance from the sub class to the super type. {@code -1} if {@code to} is not a super type of
+     * {@code from}
+     */
+    static int distance(Class<?> from, Class<?> to) {
+        if (from == to)
+            return 0;
+        return DISTANCES.get(from).distance(to);
+    }
+
+    /**
+     * @param from sub class
+     * @return the longest distance from the class to its super types
+     */
+    static int maxDistance(Class<?> from) {
+        return DISTANCES.get(from).maxDistance;
+    }
+
+    private static final class Distances {
+        private final Map<Class<?>, Integer> distances = new HashMap<>();
+        private final int maxDistance;
+
+        private Distances(Class<?> type) {
+            // Breadth first, so the first distance found is the shortest.
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            distances.put(type, 0);
+            queue.add(type);
+            int max = 0;
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                int next = distances.get(current) + 1;
+                List<Class<?>> supers = new ArrayList<>(Arrays.asList(current.getInterfaces()));
+                if (current.getSuperclass() != null && current.getSuperclass() != Object.class)
+                    supers.add(current.getSuperclass());
+                for (Class<?> superType : supers) {
+                    if (!distances.containsKey(superType)) {
+                        distances.put(superType, next);
+                        queue.add(superType);
+                        max = next;
+                    }
+                }
+            }
+            // Every type is an Object. It is the farthest one, like the most specific overload rule of Java.
+            if (type != Object.class && !type.isPrimitive()) {
+                max++;
+                distances.put(Object.class, max);
+            }
+            this.maxDistance = max;
+        }
+
+        private int distance(Class<?> to) {
+            Integer distance = distances.get(to);
+            return distance == null ? -1 : distance;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Immutable values of a single level context and their keys indexed by type.
+ * <p>
+ * A key is indexed by the raw class of its value type and all of its super classes and interfaces.
+ * A type lookup takes the keys indexed by the raw class of the requested type,
+ * and only those are checked with generics considered.
+ * Primitive types are indexed and looked up as their wrapper types.
+ * Values of type variables, wildcards and array types are checked on every lookup,
+ * and lookups of array types are checked against all values.
+ * <p>
+ * {@link #with} and {@link #without} return a new index, copying the value map and the key sets of the affected types.
+ * The other key sets are shared between indexes and never changed once published.
+ *
+ * @author Jeongjin Kim
+ * @see TypeIndexedContext
+ * @see ConcurrentContext
+ * @since 2026-10-18
+ */
+final class TypeIndex {
+    static final TypeIndex EMPTY = new TypeIndex(Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptySet());
+
+    private static final ClassValue<Set<Class<?>>> ASSIGNABLE_TYPES = new ClassValue<Set<Class<?>>>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            collectAssignableTypes(type, types);
+            types.add(Object.class);
+            return Collections.unmodifiableSet(types);
+        }
+    };
+
+    private final Map<String, TypeDescribableObject> values;
+    private final Map<Class<?>, Set<String>> keysByType;
+    private final Set<String> unindexedKeys;
+
+    private TypeIndex(Map<String, TypeDescribableObject> values, Map<Class<?>, Set<String>> keysByType,
+                      Set<String> unindexedKeys) {
+        this.values = values;
+        this.keysByType = keysByType;
+        this.unindexedKeys = unindexedKeys;
+    }
+
+    /**
+     * @return unmodifiable values by key
+     */
+    Map<String, TypeDescribableObject> values() {
+        return values;
+    }
+
+    /**
+     * @param key key
+     * @return value of the key. {@code null} if not exists
+     */
+    TypeDescribableObject get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * @param key key
+     * @return {@code true} if the key exists
+     */
+    boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * @param type type to look up
+     * @return the only value assignable to the type, or why there is none
+     */
+    TypeLookup lookup(Type type) {
+        String found = null;
+        for (String key : candidateKeys(type)) {
+            if (TypeUtils.isAssignable(type, values.get(key).getType())) {
+                if (found != null)
+                    return TypeLookup.ambiguous();
+                found = key;
+            }
+        }
+        if (found == null)
+            return TypeLookup.missing();
+        return TypeLookup.found(found, values.get(found));
+    }
+
+    /**
+     * @param type type to look up
+     * @return {@code true} if any value is assignable to the type
+     */
+    boolean hasType(Type type) {
+        for (String key : candidateKeys(type)) {
+            if (TypeUtils.isAssignable(type, values.get(key).getType()))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param key   key
+     * @param value value of the key, replacing the previous one
+     * @return new index with the value
+     */
+    TypeIndex with(String key, TypeDescribableObject value) {
+        Map<String, TypeDescribableObject> newValues = new HashMap<>(values);
+        TypeDescribableObject previous = newValues.put(key, value);
+        Map<Class<?>, Set<String>> newKeysByType = new HashMap<>(keysByType);
+        Set<String> newUnindexedKeys = new LinkedHashSet<>(unindexedKeys);
+        if (previous != null)
+            unindex(key, previous.getType(), newKeysByType, newUnindexedKeys);
+        index(key, value.getType(), newKeysByType, newUnindexedKeys);
+        return new TypeIndex(Collections.unmodifiableMap(newValues), newKeysByType,
+                Collections.unmodifiableSet(newUnindexedKeys));
+    }
+
+    /**
+     * @param key key to remove
+     * @return new index without the key. This index if the key does not exist
+     */
+    TypeIndex without(String key) {
+        if (!values.containsKey(key))
+            return this;
+        Map<String, TypeDescribableObject> newValues = new HashMap<>(values);
+        TypeDescribableObject previous = newValues.remove(key);
+        Map<Class<?>, Set<String>> newKeysByType = new HashMap<>(keysByType);
+        Set<String> newUnindexedKeys = new LinkedHashSet<>(unindexedKeys);
+        unindex(key, previous.getType(), newKeysByType, newUnindexedKeys);
+        return new TypeIndex(Collections.unmodifiableMap(newValues), newKeysByType,
+                Collections.unmodifiableSet(newUnindexedKeys));
+    }
+
+    private Collection<String> candidateKeys(Type type) {
+        Class<?> rawClass = indexableClass(type);
+        if (rawClass == null || rawClass.isArray())
+            return values.keySet();
+
+        Set<String> indexed = keysByType.get(rawClass);
+        if (unindexedKeys.isEmpty())
+            return indexed == null ? Collections.emptySet() : indexed;
+
+        List<String> keys = new ArrayList<>(unindexedKeys);
+        if (indexed != null)
+            keys.addAll(indexed);
+        return keys;
+    }
+
+    private static void index(String key, Type type, Map<Class<?>, Set<String>> keysByType,
+                              Set<String> unindexedKeys) {
+        Class<?> rawClass = entryClass(type);
+        if (rawClass == null || rawClass.isArray()) {
+            unindexedKeys.add(key);
+            return;
+        }
+        for (Class<?> assignableType : ASSIGNABLE_TYPES.get(rawClass)) {
+            Set<String> indexed = keysByType.get(assignableType);
+            Set<String> keys = indexed == null ? new LinkedHashSet<>() : new LinkedHashSet<>(indexed);
+            keys.add(key);
+            keysByType.put(assignableType, Collections.unmodifiableSet(keys));
+        }
+    }
+
+    private static void unindex(String key, Type type, Map<Class<?>, Set<String>> keysByType,
+                                Set<String> unindexedKeys) {
+        Class<?> rawClass = entryClass(type);
+        if (rawClass == null || rawClass.isArray()) {
+            unindexedKeys.remove(key);
+            return;
+        }
+        for (Class<?> assignableType : ASSIGNABLE_TYPES.get(rawClass)) {
+            Set<String> indexed = keysByType.get(assignableType);
+            if (indexed == null || !indexed.contains(key))
+                continue;
+            Set<String> keys = new LinkedHashSet<>(indexed);
+            keys.remove(key);
+            if (keys.isEmpty())
+                keysByType.remove(assignableType);
+            else
+                keysByType.put(assignableType, Collections.unmodifiableSet(keys));
+        }
+    }
+
+    /**
+     * @param type type of a value
+     * @return raw class to index the value. {@code null} if the type is a type variable or a wildcard
+     */
+    private static Class<?> entryClass(Type type) {
+        if (!(type instanceof Class) && !(type instanceof ParameterizedType))
+            return null;
+        return indexableClass(type);
+    }
+
+    /**
+     * @param type type of a value or a lookup
+     * @return raw class, primitive types as their wrapper types. {@code null} if it cannot be resolved
+     */
+    private static Class<?> indexableClass(Type type) {
+        if (type == null)
+            return null;
+        Class<?> rawClass = type instanceof Class ? (Class<?>) type : ResolvableType.forType(type).resolve();
+        return rawClass == null ? null : ClassUtils.resolvePrimitiveIfNecessary(rawClass);
+    }
+
+    private static void collectAssignableTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type))
+            return;
+        collectAssignableTypes(type.getSuperclass(), types);
+        for (Class<?> anInterface : type.getInterfaces()) {
+            collectAssignableTypes(anInterface, types);
+        }
+    }
+}
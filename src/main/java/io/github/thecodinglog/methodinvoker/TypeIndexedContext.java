@@ -0,0 +1,83 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Single level context that finds values by type without scanning all values.
+ * <p>
+ * Whenever a value is added, the key is indexed by the raw class of the value type and all of its super classes and
+ * interfaces. A type lookup takes the keys indexed by the raw class of the requested type,
+ * and only those are checked with generics considered.
+ * Primitive types are indexed and looked up as their wrapper types.
+ * <p>
+ * Values of type variables, wildcards and array types are checked on every lookup,
+ * and lookups of array types are checked against all values as {@link SingleLevelContext} does.
+ * <p>
+ * Adding a value copies the values and the keys indexed by the types of the value,
+ * as the index is shared with {@link ConcurrentContext}.
+ *
+ * @author Jeongjin Kim
+ * @see SingleLevelContext
+ * @since 2026-10-18
+ */
+public class TypeIndexedContext implements Context {
+    private final Set<String> optionalParameters = new HashSet<>();
+    private TypeIndex index = TypeIndex.EMPTY;
+    private ContextShape shape;
+
+    @Override
+    public TypeDescribableObject getValueByKey(String key) {
+        return index.get(key);
+    }
+
+    @Override
+    public TypeDescribableObject getOneValueByType(Type type) {
+        return lookupByType(type).valueOrThrow();
+    }
+
+    @Override
+    public TypeLookup lookupByType(Type type) {
+        return index.lookup(type);
+    }
+
+    @Override
+    public boolean hasKey(String key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public boolean hasType(Type type) {
+        return index.hasType(type);
+    }
+
+    @Override
+    public void add(String key, TypeDescribableObject typeDescribableObject) {
+        index = index.with(key, typeDescribableObject);
+        shape = null;
+    }
+
+    /**
+     * Add a key to the optional parameter set.
+     *
+     * @param key key
+     */
+    public void addOptionalParameter(String key) {
+        optionalParameters.add(key);
+        shape = null;
+    }
+
+    @Override
+    public Set<String> optionalParameters() {
+        return Collections.unmodifiableSet(optionalParameters);
+    }
+
+    @Override
+    public ContextShape shape() {
+        if (shape == null)
+            shape = ContextShape.of(index.values(), optionalParameters);
+        return shape;
+    }
+}
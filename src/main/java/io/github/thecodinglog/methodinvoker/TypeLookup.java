@@ -0,0 +1,155 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
+
+import java.lang.reflect.Type;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable result of looking up one value by type in a {@link Context}, without throwing when it is not found.
+ *
+ * @author Jeongjin Kim
+ * @see Context#lookupByType(java.lang.reflect.Type)
+ * @since 2026-10-18
+ */
+public final class TypeLookup {
+    private static final TypeLookup MISSING = new TypeLookup(Status.MISSING, null);
+    private static final TypeLookup AMBIGUOUS = new TypeLookup(Status.AMBIGUOUS, null);
+
+    private final Status status;
+    private final TypeDescribableObject value;
+    private final String key;
+
+    private TypeLookup(Status status, TypeDescribableObject value) {
+        this(status, value, null);
+    }
+
+    private TypeLookup(Status status, TypeDescribableObject value, String key) {
+        this.status = status;
+        this.value = value;
+        this.key = key;
+    }
+
+    /**
+     * @param value the only value matching the type
+     * @return result of the found value
+     */
+    public static TypeLookup found(TypeDescribableObject value) {
+        return new TypeLookup(Status.FOUND, value);
+    }
+
+    /**
+     * @param key   key of the found value in the context
+     * @param value the only value matching the type
+     * @return result of the found value, which can be fetched again by the key
+     */
+    static TypeLookup found(String key, TypeDescribableObject value) {
+        return new TypeLookup(Status.FOUND, value, key);
+    }
+
+    /**
+     * @return result of no value matching the type
+     */
+    public static TypeLookup missing() {
+        return MISSING;
+    }
+
+    /**
+     * @return result of two or more values matching the type
+     */
+    public static TypeLookup ambiguous() {
+        return AMBIGUOUS;
+    }
+
+    /**
+     * Look up by {@link Context#lookupByType}, or by {@link #byExceptions} if the context gives no result.
+     *
+     * @param context context to look up
+     * @param type    the type of value
+     * @return result of the lookup
+     */
+    static TypeLookup of(Context context, Type type) {
+        TypeLookup lookup = context.lookupByType(type);
+        return lookup != null ? lookup : byExceptions(context, type);
+    }
+
+    /**
+     * Look up by {@link Context#hasType} and {@link Context#getOneValueByType}.
+     *
+     * @param context context to look up
+     * @param type    the type of value
+     * @return result of the lookup
+     */
+    static TypeLookup byExceptions(Context context, Type type) {
+        if (!context.hasType(type))
+            return MISSING;
+        try {
+            return found(context.getOneValueByType(type));
+        } catch (NoUniqueElementException e) {
+            return AMBIGUOUS;
+        } catch (NoSuchElementException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * @return status of the lookup
+     */
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * @return {@code true} if the only value matching the type is found
+     */
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    /**
+     * @return the found value. {@code null} if it is not found
+     */
+    public TypeDescribableObject value() {
+        return value;
+    }
+
+    /**
+     * @return key of the found value. {@code null} if it is not found or the context does not tell
+     */
+    String key() {
+        return key;
+    }
+
+    /**
+     * Returns the found value, or throws the exception {@link Context#getOneValueByType} throws.
+     *
+     * @return the found value
+     * @throws NoUniqueElementException if two or more values match the type
+     * @throws NoSuchElementException   if no value matches the type
+     */
+    public TypeDescribableObject valueOrThrow() {
+        if (status == Status.AMBIGUOUS)
+            throw new NoUniqueElementException("No unique.");
+        if (status == Status.MISSING)
+            throw new NoSuchElementException("No element.");
+        return value;
+    }
+
+    /**
+     * Status of a lookup by type.
+     */
+    public enum Status {
+        /**
+         * The only value matching the type is found.
+         */
+        FOUND,
+        /**
+         * Two or more values match the type.
+         */
+        AMBIGUOUS,
+        /**
+         * No value matches the type.
+         */
+        MISSING
+    }
+}
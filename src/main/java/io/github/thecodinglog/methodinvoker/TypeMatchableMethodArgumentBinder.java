@@ -1,73 +1,75 @@
 package io.github.thecodinglog.methodinvoker;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Binds each parameter by trying the strategies of {@link ArgumentBindingPipeline} in order.
+ *
  * @author Jeongjin Kim
  * @since 2021-03-12
  */
 final class TypeMatchableMethodArgumentBinder implements MethodArgumentBinder {
-    private static final Logger log = LoggerFactory.getLogger(TypeMatchableMethodArgumentBinder.class);
+    private final ArgumentBindingPipeline pipeline;
+
+    TypeMatchableMethodArgumentBinder() {
+        this(ArgumentBindingPipeline.defaults());
+    }
+
+    TypeMatchableMethodArgumentBinder(ArgumentBindingPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
 
     @Override
-    public PrioritizableMethodOrConstructorHolder bind(MethodOrConstructor methodOrConstructor, Context context) {
+    public PrioritizableMethodOrConstructorHolder bind(MethodOrConstructor methodOrConstructor, Context context,
+                                                       BindingRecorder recorder) {
         List<ParameterAndArgumentHolder> parameterAndArgumentHolders =
                 new ArrayList<>(methodOrConstructor.parameterCount());
+        List<ArgumentSource> argumentSources = new ArrayList<>(methodOrConstructor.parameterCount());
+        // Strategies are only reported to invocation listeners.
+        List<Class<? extends MethodArgumentBindingStrategy>> strategies = recorder.trace() == null ? null :
+                new ArrayList<>(methodOrConstructor.parameterCount());
 
         if (methodOrConstructor.parameterCount() > 0 && context == null)
             throw new MethodBindingException("Args exist but no context exists.");
 
-        params:
-        for (int i = 0; i < methodOrConstructor.parameterCount(); i++) {
-            MethodOrConstructorParameter methodParameter =
-                    new SpringMethodOrConstructorParameter(methodOrConstructor, i);
-            ParameterAndArgumentHolder parameterAndArgumentHolder =
-                    new PrioritizableParameterAndArgumentHolder(methodParameter);
-
-            List<MethodArgumentBindingStrategy> parameterQualifierBindingStrategies =
-                    new ArrayList<>();
-            parameterQualifierBindingStrategies.add(
-                    new ParameterQualifierMethodArgumentBindingStrategy());
-            parameterQualifierBindingStrategies.add(
-                    new ParameterNameMethodArgumentBindingStrategy());
-            parameterQualifierBindingStrategies.add(
-                    new ParameterTypeMethodArgumentBindingStrategy());
-            parameterQualifierBindingStrategies.add(
-                    new ParameterNameAndJsonMethodArgumentBindingStrategy());
-            parameterQualifierBindingStrategies.add(
-                    new OptionalMethodArgumentBindingStrategy());
+        Executable executable = methodOrConstructor.getMethod() != null ? methodOrConstructor.getMethod()
+                : methodOrConstructor.getConstructor();
 
-            for (MethodArgumentBindingStrategy strategy : parameterQualifierBindingStrategies) {
-                log.info("Strategy [{}], Param name [{}], Param type [{}]", strategy.getClass().getSimpleName(),
-                        parameterAndArgumentHolder.getParameterName(),
-                        parameterAndArgumentHolder.getParameterType());
-                ParameterBindingResult parameterBindingResult
-                        = strategy.tryBind(parameterAndArgumentHolder, context);
+        Object event = FlightRecorder.beginBinding();
+        try {
+            for (int i = 0; i < methodOrConstructor.parameterCount(); i++) {
+                MethodOrConstructorParameter methodParameter =
+                        new SpringMethodOrConstructorParameter(methodOrConstructor, i);
+                ParameterAndArgumentHolder parameterAndArgumentHolder =
+                        new PrioritizableParameterAndArgumentHolder(methodParameter);
 
-                if (parameterBindingResult.getParameterAndArgumentHolder() != null) {
-                    parameterAndArgumentHolders.add(parameterBindingResult.getParameterAndArgumentHolder());
-                    continue params;
-                } else {
-                    if (!parameterBindingResult.isOptional()) {
-                        break params;
-                    }
+                MethodArgumentBindingStrategy boundBy =
+                        pipeline.bind(parameterAndArgumentHolder, context, recorder, executable, i);
+                if (boundBy == null) {
+                    BindingTracer.unbound(executable, i);
+                    // You do not need to try the next parameter because one parameter could not be bound.
+                    break;
                 }
+                ArgumentSource source = boundBy.sourceOf(parameterAndArgumentHolder);
+                if (source != null)
+                    source = source.resolve(context);
+                recorder.consulted(source);
+                parameterAndArgumentHolders.add(parameterAndArgumentHolder);
+                argumentSources.add(source);
+                if (strategies != null)
+                    strategies.add(boundBy.getClass());
             }
-            log.debug("Can't bind parameter [{}][{}]",
-                    methodParameter.getParameterName(),
-                    methodParameter.getParameterType());
-            // If getting here, you do not need to try the next parameter because one parameter could not be bound.
-            break;
+        } finally {
+            FlightRecorder.endBinding(event, executable, parameterAndArgumentHolders.size());
         }
 
         // When the number of arguments for which mapping was confirmed and the number of parameters ara same
         // then the constructor Approved.
         if (parameterAndArgumentHolders.size() == methodOrConstructor.parameterCount()) {
-            return new PrioritizableMethodOrConstructorHolder(methodOrConstructor, parameterAndArgumentHolders);
+            return new PrioritizableMethodOrConstructorHolder(methodOrConstructor, parameterAndArgumentHolders,
+                    argumentSources, strategies);
         } else {
             return null;
         }
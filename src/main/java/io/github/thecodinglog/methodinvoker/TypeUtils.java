@@ -1,16 +1,22 @@
 package io.github.thecodinglog.methodinvoker;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Type;
 
 /**
  * Miscellaneous utility methods that related to type. Mainly for internal use within the framework.
+ * <p>
+ * Assignability of two non-array classes is checked without {@link ResolvableType}.
+ * Results of other types are cached, see {@link AssignabilityCache}.
  *
  * @author Jeongjin Kim
  * @since 2021-03-05
  */
 public final class TypeUtils {
+    private static final AssignabilityCache ASSIGNABILITY_CACHE = new AssignabilityCache();
+
     /**
      * Check if the right-hand side type may be assigned to the left-hand side type, assuming setting by reflection.
      * Considers primitive wrapper classes as assignable to the corresponding primitive types.
@@ -20,6 +26,16 @@ public final class TypeUtils {
      * @return if the target type is assignable from the value type
      */
     public static boolean isAssignable(Type lhsType, Type rhsType) {
+        if (lhsType instanceof Class && rhsType instanceof Class
+                && !((Class<?>) lhsType).isArray() && !((Class<?>) rhsType).isArray())
+            return ClassUtils.isAssignable((Class<?>) lhsType, (Class<?>) rhsType);
+        if (lhsType == null || rhsType == null)
+            return resolvableAssignable(lhsType, rhsType);
+
+        return ASSIGNABILITY_CACHE.isAssignable(lhsType, rhsType, TypeUtils::resolvableAssignable);
+    }
+
+    private static boolean resolvableAssignable(Type lhsType, Type rhsType) {
         ResolvableType lType = ResolvableType.forType(lhsType);
         ResolvableType rType = ResolvableType.forType(rhsType);
 
@@ -59,6 +75,6 @@ public final class TypeUtils {
      * @return if the target type is assignable from the object
      */
     public static boolean isInstance(Type type, Object object) {
-        return ResolvableType.forType(type).isInstance(object);
+        return object != null && isAssignable(type, object.getClass());
     }
 }
@@ -0,0 +1,34 @@
+package io.github.thecodinglog.methodinvoker.annotations;
+
+import io.github.thecodinglog.methodinvoker.InstanceScope;
+
+import java.lang.annotation.*;
+
+/**
+ * Specify how objects of the class are shared between invocations.
+ * <p>
+ * A scope registered through {@link io.github.thecodinglog.methodinvoker.InstanceScopes} takes precedence.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Scope {
+    /**
+     * @return scope of the objects of the class
+     */
+    InstanceScope value();
+
+    /**
+     * @return the maximum number of objects of each pool for {@link InstanceScope#POOLED}
+     */
+    int poolSize() default 8;
+
+    /**
+     * @return milliseconds to wait for a pooled object to be released when all objects of the pool are borrowed,
+     * for {@link InstanceScope#POOLED}
+     */
+    long borrowTimeoutMillis() default 10_000;
+}
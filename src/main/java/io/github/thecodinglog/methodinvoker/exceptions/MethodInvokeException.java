@@ -13,7 +13,7 @@ public class MethodInvokeException extends RuntimeException {
      * @param msg the detail message
      */
     public MethodInvokeException(String msg) {
-        super(msg);
+        super(msg, null, true, StackTraceOption.isWritable());
     }
 
     /**
@@ -24,6 +24,6 @@ public class MethodInvokeException extends RuntimeException {
      * @param cause the root cause
      */
     public MethodInvokeException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, true, StackTraceOption.isWritable());
     }
 }
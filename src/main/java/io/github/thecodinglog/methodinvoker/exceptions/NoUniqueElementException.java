@@ -13,7 +13,7 @@ public class NoUniqueElementException extends RuntimeException {
      * @param msg the detail message
      */
     public NoUniqueElementException(String msg) {
-        super(msg);
+        super(msg, null, true, StackTraceOption.isWritable());
     }
 
     /**
@@ -23,6 +23,6 @@ public class NoUniqueElementException extends RuntimeException {
      * @param cause the root cause
      */
     public NoUniqueElementException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, true, StackTraceOption.isWritable());
     }
 }
@@ -13,7 +13,7 @@ public class NoUniqueQualifierException extends RuntimeException {
      * @param msg the detail message
      */
     public NoUniqueQualifierException(String msg) {
-        super(msg);
+        super(msg, null, true, StackTraceOption.isWritable());
     }
 
     /**
@@ -24,6 +24,6 @@ public class NoUniqueQualifierException extends RuntimeException {
      * @param cause the root cause
      */
     public NoUniqueQualifierException(String msg, Throwable cause) {
-        super(msg, cause);
+        super(msg, cause, true, StackTraceOption.isWritable());
     }
 }
@@ -0,0 +1,30 @@
+package io.github.thecodinglog.methodinvoker.exceptions;
+
+/**
+ * Option whether the exceptions of this library capture their stack traces.
+ * <p>
+ * Capturing a stack trace is the most expensive part of creating an exception.
+ * When invocations fail often as a part of normal flow, set the system property {@value #PROPERTY}
+ * to {@code false} to skip it. The messages and the causes of the exceptions are kept.
+ * The property is read once when this class is initialized.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class StackTraceOption {
+    /**
+     * System property to enable or disable capturing stack traces. Enabled by default.
+     */
+    public static final String PROPERTY = "methodinvoker.exception.stacktrace";
+    private static final boolean WRITABLE = !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+
+    private StackTraceOption() {
+    }
+
+    /**
+     * @return {@code true} if the exceptions of this library capture their stack traces
+     */
+    public static boolean isWritable() {
+        return WRITABLE;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.thecodinglog.methodinvoker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * Emits Java Flight Recorder events of resolutions, bindings and invocations.
+ * <p>
+ * Events are created only while a recording enables them, and their fields are set only if they are committed.
+ * Bindings and invocations are frequent, so by default they are recorded only when they take 1 ms or longer.
+ * Change the thresholds of {@code io.github.thecodinglog.methodinvoker.*} in the recording settings to record more.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+final class FlightRecorder {
+    private static final String CATEGORY = "Method Invoker";
+
+    private FlightRecorder() {
+    }
+
+    /**
+     * @return event of a resolution. {@code null} if not recorded
+     */
+    static Object beginResolution() {
+        ResolutionEvent event = new ResolutionEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event       event returned by {@link #beginResolution()}. nullable
+     * @param targetClass class to resolve the method or constructor of
+     * @param methodName  name of the method. {@code null} for a constructor
+     * @param candidates  number of candidates. {@code -1} if failed before selecting them
+     * @param selected    selected method or constructor. {@code null} if failed
+     * @param context     context to bind arguments from. nullable
+     */
+    static void endResolution(Object event, Class<?> targetClass, String methodName, int candidates,
+                              Executable selected, Context context) {
+        if (event == null)
+            return;
+        ResolutionEvent resolution = (ResolutionEvent) event;
+        resolution.end();
+        if (!resolution.shouldCommit())
+            return;
+        ContextShape shape = context == null ? null : context.shape();
+        resolution.targetClass = targetClass;
+        resolution.methodName = methodName == null ? "<init>" : methodName;
+        resolution.candidates = candidates;
+        resolution.selected = selected == null ? null : selected.toGenericString();
+        resolution.contextSize = shape == null ? 0 : shape.size();
+        resolution.commit();
+    }
+
+    /**
+     * @return event of binding the arguments of a candidate. {@code null} if not recorded
+     */
+    static Object beginBinding() {
+        BindingEvent event = new BindingEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event      event returned by {@link #beginBinding()}. nullable
+     * @param executable method or constructor to bind
+     * @param bound      number of bound parameters
+     */
+    static void endBinding(Object event, Executable executable, int bound) {
+        if (event == null)
+            return;
+        BindingEvent binding = (BindingEvent) event;
+        binding.end();
+        if (!binding.shouldCommit())
+            return;
+        binding.targetClass = executable.getDeclaringClass();
+        binding.candidate = executable.toGenericString();
+        binding.parameters = executable.getParameterCount();
+        binding.bound = bound;
+        binding.commit();
+    }
+
+    /**
+     * @return event of an invocation of the target method. {@code null} if not recorded
+     */
+    static Object beginInvocation() {
+        TargetInvocationEvent event = new TargetInvocationEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event  event returned by {@link #beginInvocation()}. nullable
+     * @param target object invoked on
+     * @param method invoked method
+     * @param failed whether the method threw
+     */
+    static void endInvocation(Object event, Object target, Method method, boolean failed) {
+        if (event == null)
+            return;
+        TargetInvocationEvent invocation = (TargetInvocationEvent) event;
+        invocation.end();
+        if (!invocation.shouldCommit())
+            return;
+        invocation.targetClass = target == null ? method.getDeclaringClass() : target.getClass();
+        invocation.methodName = method.getName();
+        invocation.method = method.toGenericString();
+        invocation.failed = failed;
+        invocation.commit();
+    }
+
+    /**
+     * Resolution of a method or a constructor.
+     */
+    @Name("io.github.thecodinglog.methodinvoker.Resolution")
+    @Label("Method Resolution")
+    @Description("Selecting the method or the constructor that best matches the context")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ResolutionEvent extends Event {
+        @Label("Target Class")
+        Class<?> targetClass;
+        @Label("Method Name")
+        String methodName;
+        @Label("Candidates")
+        int candidates;
+        @Label("Selected")
+        String selected;
+        @Label("Context Size")
+        int contextSize;
+    }
+
+    /**
+     * Binding the arguments of a candidate.
+     */
+    @Name("io.github.thecodinglog.methodinvoker.Binding")
+    @Label("Argument Binding")
+    @Description("Binding the arguments of a candidate method or constructor from the context")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Threshold("1 ms")
+    static final class BindingEvent extends Event {
+        @Label("Target Class")
+        Class<?> targetClass;
+        @Label("Candidate")
+        String candidate;
+        @Label("Parameters")
+        int parameters;
+        @Label("Bound Parameters")
+        int bound;
+    }
+
+    /**
+     * Invocation of the target method.
+     */
+    @Name("io.github.thecodinglog.methodinvoker.Invocation")
+    @Label("Method Invocation")
+    @Description("Invoking the target method with the bound arguments")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Threshold("1 ms")
+    static final class TargetInvocationEvent extends Event {
+        @Label("Target Class")
+        Class<?> targetClass;
+        @Label("Method Name")
+        String methodName;
+        @Label("Method")
+        String method;
+        @Label("Failed")
+        boolean failed;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.thecodinglog.methodinvoker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors to give {@link MethodInvoker#invokeAsync(Object, String, Context, java.util.concurrent.Executor)}.
+ * <p>
+ * This is the Java 21 version. {@link #newPerInvocationExecutor()} runs each invocation in its own virtual thread,
+ * so tens of thousands of targets may block at the same time on a few carrier threads.
+ * Locks held while resolving and invoking are {@link java.util.concurrent.locks.ReentrantLock}s,
+ * so they do not pin the carriers.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+public final class InvocationExecutors {
+    private InvocationExecutors() {
+    }
+
+    /**
+     * Returns a new executor that starts a virtual thread for each invocation.
+     * Threads are named {@code method-invoker-<n>}.
+     *
+     * @return new executor. It should be shut down after use
+     */
+    public static ExecutorService newPerInvocationExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("method-invoker-", 0).factory());
+    }
+
+    /**
+     * @return {@code true} if {@link #newPerInvocationExecutor()} runs invocations in virtual threads
+     */
+    public static boolean usesVirtualThreads() {
+        return true;
+    }
+}
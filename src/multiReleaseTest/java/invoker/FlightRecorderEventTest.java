@@ -0,0 +1,81 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.Context;
+import io.github.thecodinglog.methodinvoker.SingleLevelContext;
+import io.github.thecodinglog.methodinvoker.StrictMethodInvoker;
+import io.github.thecodinglog.methodinvoker.TypeDescribableObject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the multi-release jar on Java 11 or later, where events are recorded by Java Flight Recorder.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class FlightRecorderEventTest {
+    private static final String RESOLUTION = "io.github.thecodinglog.methodinvoker.Resolution";
+    private static final String INVOCATION = "io.github.thecodinglog.methodinvoker.Invocation";
+
+    @Test
+    void givenRecordingThenCommitResolutionAndInvocationEvents() throws IOException, NoSuchMethodException {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("hi"));
+        String greet = Greeter.class.getMethod("greet", String.class).toGenericString();
+
+        Path file = Files.createTempFile("method-invoker", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(RESOLUTION).withThreshold(Duration.ZERO);
+                // Invocations are recorded only when they take 1 ms or longer by default.
+                recording.enable(INVOCATION).withThreshold(Duration.ZERO);
+                recording.start();
+                assertThat(new StrictMethodInvoker().invoke(new Greeter(), "greet", context).getObject())
+                        .isEqualTo("hi");
+                recording.stop();
+                recording.dump(file);
+            }
+
+            List<RecordedEvent> resolutions = eventsOf(file, RESOLUTION);
+            assertThat(resolutions).hasSize(1);
+            RecordedEvent resolution = resolutions.get(0);
+            assertThat(resolution.getString("methodName")).isEqualTo("greet");
+            assertThat(resolution.getInt("candidates")).isEqualTo(1);
+            assertThat(resolution.getString("selected")).isEqualTo(greet);
+            assertThat(resolution.getInt("contextSize")).isEqualTo(1);
+
+            List<RecordedEvent> invocations = eventsOf(file, INVOCATION);
+            assertThat(invocations).hasSize(1);
+            RecordedEvent invocation = invocations.get(0);
+            assertThat(invocation.getString("methodName")).isEqualTo("greet");
+            assertThat(invocation.getString("method")).isEqualTo(greet);
+            assertThat(invocation.getBoolean("failed")).isFalse();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsOf(Path file, String name) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .filter(e -> e.getClass("targetClass").getName().equals(Greeter.class.getName()))
+                .collect(Collectors.toList());
+    }
+
+    public static class Greeter {
+        public String greet(String name) {
+            return name;
+        }
+    }
+}
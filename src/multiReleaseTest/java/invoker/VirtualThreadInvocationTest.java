@@ -0,0 +1,49 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.Context;
+import io.github.thecodinglog.methodinvoker.InvocationExecutors;
+import io.github.thecodinglog.methodinvoker.MethodInvoker;
+import io.github.thecodinglog.methodinvoker.SingleLevelContext;
+import io.github.thecodinglog.methodinvoker.StrictMethodInvoker;
+import io.github.thecodinglog.methodinvoker.TypeDescribableObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the multi-release jar on Java 21, which is done by building with {@code -Pjava21}.
+ *
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+@EnabledIfSystemProperty(named = "methodinvoker.java21", matches = "true")
+class VirtualThreadInvocationTest {
+    @Test
+    void givenJava21VersionThenInvokeInVirtualThread() throws Exception {
+        assertThat(InvocationExecutors.usesVirtualThreads()).isTrue();
+
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("name"));
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        ExecutorService executor = InvocationExecutors.newPerInvocationExecutor();
+        try {
+            TypeDescribableObject result = methodInvoker
+                    .invokeAsync(new CurrentThread(), "isVirtual", context, executor)
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(result.getObject()).isEqualTo(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class CurrentThread {
+        // Thread#isVirtual is called reflectively, as the tests are compiled for Java 11.
+        public boolean isVirtual(String name) throws ReflectiveOperationException {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class AsyncInvocationTest {
+    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "invoker-async"));
+    MethodInvoker methodInvoker = new StrictMethodInvoker();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenExecutorThenInvokeOnTheExecutor() throws Exception {
+        TypeDescribableObject result = methodInvoker.invokeAsync(Repository.class, "threadName", context(),
+                executor).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getObject()).isEqualTo("invoker-async");
+        assertThat(result.getType()).isEqualTo(String.class);
+    }
+
+    @Test
+    void givenCompletionStageResultThenUnwrapItsValue() throws Exception {
+        Repository repository = new Repository();
+        CompletableFuture<TypeDescribableObject> future = methodInvoker.invokeAsync(repository, "findNames",
+                context(), executor);
+
+        assertThat(repository.pending.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(future).isNotDone();
+        repository.pending.get().complete(java.util.Arrays.asList("a", "b"));
+
+        TypeDescribableObject result = future.get(5, TimeUnit.SECONDS);
+        assertThat(result.getObject()).isEqualTo(java.util.Arrays.asList("a", "b"));
+        assertThat(result.getType().getTypeName()).isEqualTo("java.util.List<java.lang.String>");
+    }
+
+    @Test
+    void givenFullQualifiedClassNameThenInvoke() throws Exception {
+        assertThat(methodInvoker.invokeAsync(Repository.class.getName(), "count", context(), executor)
+                .get(5, TimeUnit.SECONDS).getObject()).isEqualTo(2);
+    }
+
+    @Test
+    void givenFailureThenCompleteExceptionally() {
+        CompletableFuture<TypeDescribableObject> noMethod = methodInvoker.invokeAsync(Repository.class, "noMethod",
+                context(), executor);
+        CompletableFuture<TypeDescribableObject> failedStage = methodInvoker.invokeAsync(Repository.class,
+                "failedStage", context(), executor);
+
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> noMethod.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(MethodInvokeException.class);
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> failedStage.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private Context context() {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("name"));
+        return context;
+    }
+
+    public static class Repository {
+        final CompletableFuture<CompletableFuture<List<String>>> pending = new CompletableFuture<>();
+
+        public String threadName(String name) {
+            return Thread.currentThread().getName();
+        }
+
+        public CompletionStage<List<String>> findNames(String name) {
+            CompletableFuture<List<String>> names = new CompletableFuture<>();
+            pending.complete(names);
+            return names;
+        }
+
+        public int count(String name) {
+            return 2;
+        }
+
+        public CompletableFuture<String> failedStage(String name) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalStateException("failed"));
+            return future;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class BatchInvocationTest {
+    MethodInvoker methodInvoker = new StrictMethodInvoker();
+
+    @Test
+    void givenContextsOfSameShapeThenResolveOnlyOnce() {
+        List<CountingContext> contexts = Arrays.asList(order("A", 1), order("B", 2), order("C", 3));
+        List<Object> results = new ArrayList<>();
+
+        methodInvoker.invokeAll(OrderManager.class, "placeOrder", contexts, result -> results.add(result.getObject()));
+
+        assertThat(results).containsExactly("A:1", "B:2", "C:3");
+        assertThat(contexts.get(0).keyChecks).isPositive();
+        assertThat(contexts.get(1).keyChecks).isZero();
+        assertThat(contexts.get(2).keyChecks).isZero();
+    }
+
+    @Test
+    void givenObjectThenInvokeOnTheObjectForEachContext() {
+        OrderManager orderManager = new OrderManager();
+        List<Object> results = new ArrayList<>();
+
+        methodInvoker.invokeAll(orderManager, "placeOrder", Arrays.asList(order("A", 1), order("B", 2)),
+                result -> results.add(result.getObject()));
+
+        assertThat(results).containsExactly("A:1", "B:2");
+        assertThat(orderManager.placed).isEqualTo(2);
+    }
+
+    @Test
+    void givenContextOfOtherShapeThenResolveAgain() {
+        CountingContext other = order("B", 2);
+        other.add("memo", new TypeDescribableObject(new Memo("memo")));
+        List<Object> results = new ArrayList<>();
+
+        methodInvoker.invokeAll(OrderManager.class.getName(), "placeOrder", Arrays.asList(order("A", 1), other,
+                order("C", 3)), result -> results.add(result.getObject()));
+
+        assertThat(results).containsExactly("A:1", "B:2:memo", "C:3");
+    }
+
+    @Test
+    void givenLazyContextsThenStreamEachResultBeforeTheNextContext() {
+        AtomicInteger created = new AtomicInteger();
+        Iterable<Context> contexts = () -> new Iterator<Context>() {
+            @Override
+            public boolean hasNext() {
+                return created.get() < 1000;
+            }
+
+            @Override
+            public Context next() {
+                return order("A", created.incrementAndGet());
+            }
+        };
+        AtomicInteger received = new AtomicInteger();
+
+        methodInvoker.invokeAll(OrderManager.class, "placeOrder", contexts, result -> {
+            assertThat(received.incrementAndGet()).isEqualTo(created.get());
+        });
+
+        assertThat(received.get()).isEqualTo(1000);
+    }
+
+    @Test
+    void givenFailureThenStopTheBatch() {
+        List<Object> results = new ArrayList<>();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                methodInvoker.invokeAll(OrderManager.class, "placeOrder",
+                        Arrays.asList(order("A", 1), order("B", -1), order("C", 3)),
+                        result -> results.add(result.getObject())));
+        assertThat(results).containsExactly("A:1");
+    }
+
+    @Test
+    void givenUnknownMethodThenThrowException() {
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.invokeAll(OrderManager.class, "noSuchMethod", Arrays.asList(order("A", 1)),
+                        result -> {
+                        }));
+    }
+
+    @Test
+    void givenContextsThenCreateObjectForEachContext() {
+        List<Object> objects = new ArrayList<>();
+        List<CountingContext> contexts = Arrays.asList(order("A", 1), order("B", 2));
+
+        new StrictMethodInvoker().objectFactory().createObjects(Order.class, contexts, objects::add);
+
+        assertThat(objects).extracting(o -> ((Order) o).item).containsExactly("A", "B");
+        assertThat(contexts.get(1).keyChecks).isZero();
+    }
+
+    @Test
+    void givenInvokerImplementingOnlyInvokeThenInvokeAllByDefault() {
+        MethodInvoker delegating = new DelegatingInvoker(methodInvoker);
+        List<Object> results = new ArrayList<>();
+
+        delegating.invokeAll(new OrderManager(), "placeOrder", Arrays.asList(order("A", 1), order("B", 2)),
+                result -> results.add(result.getObject()));
+
+        assertThat(results).containsExactly("A:1", "B:2");
+    }
+
+    private CountingContext order(String item, int quantity) {
+        CountingContext context = new CountingContext();
+        context.add("item", new TypeDescribableObject(item));
+        context.add("quantity", new TypeDescribableObject(quantity));
+        return context;
+    }
+
+    static class DelegatingInvoker implements MethodInvoker {
+        private final MethodInvoker delegate;
+
+        DelegatingInvoker(MethodInvoker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TypeDescribableObject invoke(Object object, String methodName, Context context) {
+            return delegate.invoke(object, methodName, context);
+        }
+
+        @Override
+        public TypeDescribableObject invoke(Class<?> clazz, String methodName, Context context) {
+            return delegate.invoke(clazz, methodName, context);
+        }
+
+        @Override
+        public TypeDescribableObject invoke(String fullQualifiedClassName, String methodName, Context context) {
+            return delegate.invoke(fullQualifiedClassName, methodName, context);
+        }
+    }
+
+    static class CountingContext extends SingleLevelContext {
+        int keyChecks;
+
+        @Override
+        public boolean hasKey(String key) {
+            keyChecks++;
+            return super.hasKey(key);
+        }
+    }
+
+    public static class OrderManager {
+        int placed;
+
+        public String placeOrder(String item, int quantity) {
+            if (quantity < 0)
+                throw new IllegalArgumentException("Negative quantity");
+            placed++;
+            return item + ":" + quantity;
+        }
+
+        public String placeOrder(String item, int quantity, Memo memo) {
+            return placeOrder(item, quantity) + ":" + memo.text;
+        }
+    }
+
+    public static class Memo {
+        final String text;
+
+        public Memo(String text) {
+            this.text = text;
+        }
+    }
+
+    public static class Order {
+        final String item;
+
+        public Order(String item) {
+            this.item = item;
+        }
+    }
+}
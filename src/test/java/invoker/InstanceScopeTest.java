@@ -0,0 +1,296 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.annotations.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class InstanceScopeTest {
+    @Test
+    void givenNoScopeThenCreateObjectForEachInvocation() {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+
+        Object first = methodInvoker.invoke(Prototype.class, "self", context).getObject();
+        Object second = methodInvoker.invoke(Prototype.class, "self", context).getObject();
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void givenSingletonAnnotationThenShareObjectForSameArguments() {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Repository repository = new Repository();
+
+        Object first = methodInvoker.invoke(Singleton.class, "self", repositoryContext(repository)).getObject();
+        Object second = methodInvoker.invoke(Singleton.class, "self", repositoryContext(repository)).getObject();
+        Object other = methodInvoker.invoke(Singleton.class, "self", repositoryContext(new Repository())).getObject();
+
+        assertThat(first).isSameAs(second);
+        assertThat(first).isNotSameAs(other);
+    }
+
+    @Test
+    void givenRegisteredScopeThenItTakesPrecedenceOverAnnotation() {
+        MethodInvoker methodInvoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults(), new ClassLoadingCache(),
+                InstanceScopes.annotated().with(Singleton.class, InstanceScope.PROTOTYPE)
+                        .with(Prototype.class, InstanceScope.SINGLETON));
+        Context context = repositoryContext(new Repository());
+
+        assertThat(methodInvoker.invoke(Singleton.class, "self", context).getObject())
+                .isNotSameAs(methodInvoker.invoke(Singleton.class, "self", context).getObject());
+        assertThat(methodInvoker.invoke(Prototype.class.getName(), "self", context).getObject())
+                .isSameAs(methodInvoker.invoke(Prototype.class.getName(), "self", context).getObject());
+    }
+
+    @Test
+    void givenThreadLocalScopeThenShareObjectInTheSameThread() throws InterruptedException {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+
+        Object first = methodInvoker.invoke(PerThread.class, "self", context).getObject();
+        Object second = methodInvoker.invoke(PerThread.class, "self", context).getObject();
+        Object[] fromOtherThread = new Object[1];
+        Thread thread = new Thread(() ->
+                fromOtherThread[0] = methodInvoker.invoke(PerThread.class, "self", context).getObject());
+        thread.start();
+        thread.join();
+
+        assertThat(first).isSameAs(second);
+        assertThat(fromOtherThread[0]).isNotNull().isNotSameAs(first);
+    }
+
+    @Test
+    void givenPooledScopeThenReuseReturnedObject() {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+        Pooled.created.set(0);
+
+        Set<Object> objects = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            objects.add(methodInvoker.invoke(Pooled.class, "self", context).getObject());
+        }
+
+        assertThat(objects).hasSize(1);
+        assertThat(Pooled.created.get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenPooledScopeThenPreparedInvocationReturnsObjectToPool() {
+        StrictMethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+        PreparedInvocation prepared = methodInvoker.prepare(Pooled.class, "self", context);
+
+        assertThat(prepared.invoke(context).getObject()).isSameAs(prepared.invoke(context).getObject());
+    }
+
+    @Test
+    void givenConcurrentInvocationsThenCreateAtMostPoolSize() throws Exception {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+        Pooled.created.set(0);
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch proceed = new CountDownLatch(1);
+        context.add("entered", new TypeDescribableObject(entered));
+        context.add("proceed", new TypeDescribableObject(proceed));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TypeDescribableObject>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> methodInvoker.invoke(Pooled.class, "await", context)));
+            }
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+            proceed.countDown();
+            for (Future<TypeDescribableObject> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(Pooled.created.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenObjectFactoryThenPooledObjectsAreNotBorrowed() {
+        StrictMethodInvoker methodInvoker = new StrictMethodInvoker();
+        Context context = repositoryContext(new Repository());
+
+        Set<Object> objects = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            objects.add(methodInvoker.objectFactory().createObject(Pooled.class, context));
+        }
+
+        assertThat(objects).hasSize(4);
+        assertThat(methodInvoker.invoke(Pooled.class, "self", context).getObject()).isNotIn(objects);
+        assertThat(methodInvoker.objectFactory().createObject(Singleton.class, context))
+                .isSameAs(methodInvoker.objectFactory().createObject(Singleton.class, context));
+    }
+
+    @Test
+    void givenPooledTargetInvokingItsOwnClassWithExhaustedPoolThenFailAfterTimeout() {
+        MethodInvoker methodInvoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults(), new ClassLoadingCache(),
+                InstanceScopes.annotated().withPooled(Prototype.class, 1, 100, TimeUnit.MILLISECONDS));
+        Context context = repositoryContext(new Repository());
+        context.add("reentry", new TypeDescribableObject(new Reentry(methodInvoker, context)));
+
+        assertThatThrownBy(() -> methodInvoker.invoke(Prototype.class, "reenter", context))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("was released in 100 ms");
+        assertThat(methodInvoker.invoke(Prototype.class, "self", context).getObject()).isNotNull();
+    }
+
+    @Test
+    void givenSlowSingletonConstructorThenOtherArgumentsAreNotBlocked() throws Exception {
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        Gate blocking = new Gate(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<TypeDescribableObject> slow =
+                    executor.submit(() -> methodInvoker.invoke(SlowSingleton.class, "self", gateContext(blocking)));
+            assertThat(blocking.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(methodInvoker.invoke(SlowSingleton.class, "self", gateContext(new Gate(false))).getObject())
+                    .isNotNull();
+            assertThat(slow.isDone()).isFalse();
+
+            blocking.proceed.countDown();
+            assertThat(slow.get(10, TimeUnit.SECONDS).getObject()).isNotNull();
+        } finally {
+            blocking.proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenNegativeBorrowTimeoutThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                InstanceScopes.annotated().withPooled(Pooled.class, 1, -1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void givenPoolSizeLessThanOneThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                InstanceScopes.annotated().withPooled(Pooled.class, 0));
+    }
+
+    private Context repositoryContext(Repository repository) {
+        Context context = new SingleLevelContext();
+        context.add("repository", new TypeDescribableObject(repository));
+        return context;
+    }
+
+    private Context gateContext(Gate gate) {
+        Context context = new SingleLevelContext();
+        context.add("gate", new TypeDescribableObject(gate));
+        return context;
+    }
+
+    public static class Repository {
+    }
+
+    public static class Prototype {
+        public Prototype(Repository repository) {
+        }
+
+        public Object self() {
+            return this;
+        }
+
+        public Object reenter(Reentry reentry) {
+            return reentry.methodInvoker.invoke(Prototype.class, "self", reentry.context).getObject();
+        }
+    }
+
+    public static class Reentry {
+        final MethodInvoker methodInvoker;
+        final Context context;
+
+        Reentry(MethodInvoker methodInvoker, Context context) {
+            this.methodInvoker = methodInvoker;
+            this.context = context;
+        }
+    }
+
+    public static class Gate {
+        final boolean blocks;
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+
+        Gate(boolean blocks) {
+            this.blocks = blocks;
+        }
+    }
+
+    @Scope(InstanceScope.SINGLETON)
+    public static class SlowSingleton {
+        public SlowSingleton(Gate gate) throws InterruptedException {
+            gate.entered.countDown();
+            if (gate.blocks)
+                gate.proceed.await(10, TimeUnit.SECONDS);
+        }
+
+        public Object self() {
+            return this;
+        }
+    }
+
+    @Scope(InstanceScope.SINGLETON)
+    public static class Singleton {
+        public Singleton(Repository repository) {
+        }
+
+        public Object self() {
+            return this;
+        }
+    }
+
+    @Scope(InstanceScope.THREAD_LOCAL)
+    public static class PerThread {
+        public PerThread(Repository repository) {
+        }
+
+        public Object self() {
+            return this;
+        }
+    }
+
+    @Scope(value = InstanceScope.POOLED, poolSize = 2)
+    public static class Pooled {
+        static final AtomicInteger created = new AtomicInteger();
+
+        public Pooled(Repository repository) {
+            created.incrementAndGet();
+        }
+
+        public Object self() {
+            return this;
+        }
+
+        public Object await(CountDownLatch entered, CountDownLatch proceed) throws InterruptedException {
+            entered.countDown();
+            proceed.await(10, TimeUnit.SECONDS);
+            return this;
+        }
+    }
+}
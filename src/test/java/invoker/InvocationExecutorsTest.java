@@ -0,0 +1,60 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class InvocationExecutorsTest {
+    static final int CONCURRENCY = 64;
+
+    ExecutorService executor = InvocationExecutors.newPerInvocationExecutor();
+    MethodInvoker methodInvoker = new StrictMethodInvoker();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenBlockingTargetsThenInvokeThemConcurrently() throws Exception {
+        Blocking blocking = new Blocking();
+        List<CompletableFuture<TypeDescribableObject>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(methodInvoker.invokeAsync(blocking, "await", context(), executor));
+        }
+
+        for (CompletableFuture<TypeDescribableObject> future : futures) {
+            assertThat((String) future.get(10, TimeUnit.SECONDS).getObject()).startsWith("method-invoker-");
+        }
+    }
+
+    private Context context() {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("name"));
+        return context;
+    }
+
+    public static class Blocking {
+        final CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+
+        public String await(String name) throws InterruptedException {
+            latch.countDown();
+            if (!latch.await(10, TimeUnit.SECONDS))
+                throw new IllegalStateException("Invocations did not run concurrently.");
+            return Thread.currentThread().getName();
+        }
+    }
+}
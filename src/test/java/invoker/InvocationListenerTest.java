@@ -0,0 +1,145 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class InvocationListenerTest {
+    List<InvocationEvent> events = new ArrayList<>();
+    StrictMethodInvoker methodInvoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+            ArgumentBindingPipeline.defaults(), new ClassLoadingCache(), InstanceScopes.annotated(),
+            new ResolutionFailureCache(), events::add);
+
+    @Test
+    void givenResolvedInvocationThenReportSelectionAndTimings() throws NoSuchMethodException {
+        methodInvoker.invoke(Greeter.class, "greet", context("Hello", "Tom"));
+
+        assertThat(events).hasSize(1);
+        InvocationEvent event = events.get(0);
+        assertThat(event.targetClass()).isEqualTo(Greeter.class);
+        assertThat(event.methodName()).isEqualTo("greet");
+        assertThat(event.method()).isEqualTo(Greeter.class.getMethod("greet", String.class));
+        assertThat(event.constructor()).isEqualTo(Greeter.class.getConstructor(String.class));
+        assertThat(event.methodStrategies()).containsExactly(ParameterNameMethodArgumentBindingStrategy.class);
+        assertThat(event.constructorStrategies()).containsExactly(ParameterNameMethodArgumentBindingStrategy.class);
+        assertThat(event.isPlanned()).isFalse();
+        assertThat(event.failure()).isNull();
+        assertThat(event.nanos(InvocationPhase.ARGUMENT_BINDING)).isPositive();
+        assertThat(event.nanos(InvocationPhase.METHOD_INVOCATION)).isPositive();
+        assertThat(event.totalNanos()).isGreaterThanOrEqualTo(event.nanos(InvocationPhase.METHOD_INVOCATION));
+    }
+
+    @Test
+    void givenCachedPlanThenReportPlannedInvocation() {
+        methodInvoker.invoke(new Greeter("Hello"), "greet", context("Hello", "Tom"));
+        methodInvoker.invoke(new Greeter("Hello"), "greet", context("Hi", "Jane"));
+
+        assertThat(events).hasSize(2);
+        InvocationEvent event = events.get(1);
+        assertThat(event.isPlanned()).isTrue();
+        assertThat(event.method().getName()).isEqualTo("greet");
+        assertThat(event.methodStrategies()).containsExactly(ParameterNameMethodArgumentBindingStrategy.class);
+        assertThat(event.nanos(InvocationPhase.CANDIDATE_SELECTION)).isZero();
+        assertThat(event.nanos(InvocationPhase.PRIORITY_PICKING)).isZero();
+    }
+
+    @Test
+    void givenFailedInvocationThenReportFailure() {
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.invoke(new Greeter("Hello"), "noSuchMethod", context("Hello", "Tom")));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).failure()).isInstanceOf(MethodInvokeException.class);
+        assertThat(events.get(0).method()).isNull();
+    }
+
+    @Test
+    void givenPreparedInvocationAndObjectFactoryThenReportEach() {
+        PreparedInvocation prepared = methodInvoker.prepare(Greeter.class, "greet", context("Hello", "Tom"));
+        prepared.invoke(context("Hi", "Jane"));
+        methodInvoker.objectFactory().createObject(Greeter.class, context("Hello", "Tom"));
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).isPlanned()).isTrue();
+        assertThat(events.get(0).nanos(InvocationPhase.OBJECT_CONSTRUCTION)).isPositive();
+        assertThat(events.get(1).methodName()).isNull();
+        assertThat(events.get(1).constructor().getDeclaringClass()).isEqualTo(Greeter.class);
+    }
+
+    @Test
+    void givenFailingListenerThenInvocationSucceeds() {
+        MethodInvoker invoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults(), new ClassLoadingCache(), InstanceScopes.annotated(),
+                new ResolutionFailureCache(), event -> {
+            throw new IllegalStateException("listener failed");
+        });
+
+        assertThat(invoker.invoke(Greeter.class, "greet", context("Hello", "Tom")).getObject())
+                .isEqualTo("Hello Tom");
+    }
+
+    @Test
+    void givenHistogramListenerThenAggregateLatenciesByTarget() throws NoSuchMethodException {
+        LatencyHistogramListener listener = new LatencyHistogramListener();
+        MethodInvoker invoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults(), new ClassLoadingCache(), InstanceScopes.annotated(),
+                new ResolutionFailureCache(), listener);
+
+        for (int i = 0; i < 10; i++) {
+            invoker.invoke(Greeter.class, "greet", context("Hello", "Tom"));
+        }
+
+        LatencyHistogram histogram = listener.histogram(Greeter.class.getMethod("greet", String.class));
+        assertThat(histogram.count()).isEqualTo(10);
+        assertThat(histogram.failures()).isZero();
+        assertThat(histogram.maxNanos()).isPositive();
+        assertThat(histogram.percentileNanos(50)).isPositive().isLessThanOrEqualTo(histogram.maxNanos());
+        assertThat(histogram.percentileNanos(100)).isLessThanOrEqualTo(histogram.maxNanos());
+        assertThat(histogram.nanos(InvocationPhase.METHOD_INVOCATION)).isPositive();
+        assertThat(listener.histograms()).containsOnlyKeys(Greeter.class.getMethod("greet", String.class));
+
+        listener.reset();
+        assertThat(listener.histograms()).isEmpty();
+    }
+
+    @Test
+    void givenOutOfRangePercentileThenThrowException() {
+        LatencyHistogramListener listener = new LatencyHistogramListener();
+        MethodInvoker invoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults(), new ClassLoadingCache(), InstanceScopes.annotated(),
+                new ResolutionFailureCache(), listener);
+        invoker.invoke(Greeter.class, "greet", context("Hello", "Tom"));
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                listener.histograms().values().iterator().next().percentileNanos(101));
+    }
+
+    private Context context(String greeting, String name) {
+        Context context = new SingleLevelContext();
+        context.add("greeting", new TypeDescribableObject(greeting));
+        context.add("name", new TypeDescribableObject(name));
+        return context;
+    }
+
+    public static class Greeter {
+        private final String greeting;
+
+        public Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+
+        public String greet(String name) {
+            return greeting + " " + name;
+        }
+    }
+}
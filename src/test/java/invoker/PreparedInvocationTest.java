@@ -0,0 +1,166 @@
+package invoker;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class PreparedInvocationTest {
+    StrictMethodInvoker methodInvoker = new StrictMethodInvoker();
+
+    @Test
+    void givenClassThenCreateObjectAndInvokeForEachContext() {
+        PreparedInvocation prepared = methodInvoker.prepare(Greeter.class, "greet", context("Hello", "Tom"));
+
+        assertThat(prepared.method().getName()).isEqualTo("greet");
+        assertThat(prepared.invoke(context("Hello", "Tom")).getObject()).isEqualTo("Hello Tom");
+        assertThat(prepared.invoke(context("Hi", "Jane")).getObject()).isEqualTo("Hi Jane");
+    }
+
+    @Test
+    void givenFullQualifiedClassNameThenInvoke() {
+        PreparedInvocation prepared = methodInvoker.prepare(Greeter.class.getName(), "greet",
+                context("Hello", "Tom"));
+
+        assertThat(prepared.invoke(context("Bye", "Tom")).getObject()).isEqualTo("Bye Tom");
+    }
+
+    @Test
+    void givenObjectThenInvokeOnTheObject() {
+        Counter counter = new Counter();
+        PreparedInvocation prepared = methodInvoker.prepare(counter, "add", amount(1));
+
+        prepared.invoke(amount(2));
+        prepared.invoke(amount(3));
+
+        assertThat(counter.total).isEqualTo(5);
+    }
+
+    @Test
+    void givenContextOfDifferentShapeThenFailBeforeCreatingObject() {
+        PreparedInvocation prepared = methodInvoker.prepare(Greeter.class, "greet", context("Hello", "Tom"));
+        Context other = new SingleLevelContext();
+        other.add("greeting", new TypeDescribableObject("Hello"));
+        Greeter.created = 0;
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() -> prepared.invoke(other));
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() -> prepared.invoke(null));
+        assertThat(Greeter.created).isZero();
+    }
+
+    @Test
+    void givenJsonBindingThenPreparingFails() {
+        Context schema = new SingleLevelContext();
+        schema.add("value", new TypeDescribableObject("{\"amount\":1}"));
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.prepare(new JsonMethod(), "call", schema));
+    }
+
+    @Test
+    void givenNoSuchMethodThenPreparingFails() {
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.prepare(new Counter(), "nothing", amount(1)));
+    }
+
+    @Test
+    void givenCheckedExceptionThenWrapTheException() {
+        PreparedInvocation prepared = methodInvoker.prepare(new Counter(), "fail", null);
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() -> prepared.invoke(null))
+                .withCauseInstanceOf(InvocationTargetException.class).withRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void givenCustomStrategyDescribingSourceThenPrepare() {
+        MethodArgumentBindingStrategy upperCaseKey = new MethodArgumentBindingStrategy() {
+            @Override
+            public BindingStatus tryBind(ParameterAndArgumentHolder holder, Context context) {
+                String key = holder.getParameterName().toUpperCase();
+                if (!context.hasKey(key))
+                    return BindingStatus.SKIPPED;
+                holder.accept(context.getValueByKey(key));
+                return BindingStatus.BOUND;
+            }
+
+            @Override
+            public ArgumentSource sourceOf(ParameterAndArgumentHolder holder) {
+                return ArgumentSource.key(holder.getParameterName().toUpperCase());
+            }
+        };
+        StrictMethodInvoker custom = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.of(upperCaseKey), new ClassLoadingCache());
+
+        PreparedInvocation prepared = custom.prepare(new Counter(), "scale", scale(2));
+
+        assertThat(prepared.invoke(scale(3)).getObject()).isEqualTo(30);
+    }
+
+    private Context scale(int factor) {
+        Context context = new SingleLevelContext();
+        context.add("FACTOR", new TypeDescribableObject(factor));
+        return context;
+    }
+
+    private Context context(String greeting, String name) {
+        Context context = new SingleLevelContext();
+        context.add("greeting", new TypeDescribableObject(greeting));
+        context.add("name", new TypeDescribableObject(name));
+        return context;
+    }
+
+    private Context amount(int amount) {
+        Context context = new SingleLevelContext();
+        context.add("amount", new TypeDescribableObject(amount));
+        return context;
+    }
+
+    public static class Greeter {
+        static int created;
+        private final String greeting;
+
+        public Greeter(String greeting) {
+            this.greeting = greeting;
+            created++;
+        }
+
+        public String greet(String name) {
+            return greeting + " " + name;
+        }
+    }
+
+    public static class Counter {
+        private int total;
+
+        public void add(Integer amount) {
+            total += amount;
+        }
+
+        public int scale(Integer factor) {
+            return factor * 10;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+
+    public static class JsonMethod {
+        public int call(Amount value) {
+            return value.amount;
+        }
+    }
+
+    public static class Amount {
+        public int amount;
+    }
+}
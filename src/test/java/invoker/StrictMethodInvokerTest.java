@@ -2,13 +2,17 @@ package invoker;
 
 import io.github.thecodinglog.methodinvoker.*;
 import io.github.thecodinglog.methodinvoker.annotations.DefaultMethod;
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 /**
  * @author Jeongjin Kim
@@ -25,6 +29,70 @@ class StrictMethodInvokerTest {
         ).withMessage("hi");
     }
 
+    @Test
+    void ifCheckedExceptionOccursInCalledMethodThenWrapTheException() {
+        ExceptionTestMethod testClass = new ExceptionTestMethod();
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.invoke(testClass, "checked", null)
+        ).withCauseInstanceOf(InvocationTargetException.class).withRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void ifErrorOccursInCalledMethodThenWrapTheError() {
+        ExceptionTestMethod testClass = new ExceptionTestMethod();
+        MethodInvokeException exception = catchThrowableOfType(() ->
+                methodInvoker.invoke(testClass, "error", null), MethodInvokeException.class);
+
+        assertThat(exception).hasCauseInstanceOf(InvocationTargetException.class);
+        assertThat(((InvocationTargetException) exception.getCause()).getTargetException())
+                .isInstanceOf(MyError.class).hasMessage("error");
+    }
+
+    @Test
+    void givenReflectionInvocationEngineThenInvokeMethod() {
+        MethodInvoker reflectionInvoker = new StrictMethodInvoker(new ReflectionInvocationEngine());
+        ExceptionTestMethod testClass = new ExceptionTestMethod();
+
+        assertThat(reflectionInvoker.invoke(new SimpleMethod(), "myName", null).getObject()).isEqualTo("myName");
+        assertThatExceptionOfType(MyException.class).isThrownBy(() ->
+                reflectionInvoker.invoke(testClass, "call", null)
+        ).withMessage("hi");
+    }
+
+    @Test
+    void givenClassWithoutBindableMethodThenFailBeforeCreatingObject() {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("hi"));
+        CountingConstructor.created = 0;
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.invoke(CountingConstructor.class, "notExists", context));
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                methodInvoker.invoke(CountingConstructor.class.getName(), "greet", new SingleLevelContext()));
+        assertThat(CountingConstructor.created).isZero();
+    }
+
+    @Test
+    void givenMethodWithParametersAndNullContextThenWrapTheFailure() {
+        MethodInvokeException exception = catchThrowableOfType(() ->
+                methodInvoker.invoke(new CountingConstructor(), "greet", null), MethodInvokeException.class);
+
+        assertThat(exception).hasMessage("Args exist but no context exists.");
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getCause().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void givenSameShapeContextThenInvokeByClassAgain() {
+        Context first = new SingleLevelContext();
+        first.add("name", new TypeDescribableObject("hi"));
+        Context second = new SingleLevelContext();
+        second.add("name", new TypeDescribableObject("bye"));
+
+        assertThat(methodInvoker.invoke(CountingConstructor.class, "greet", first).getObject()).isEqualTo("hi");
+        assertThat(methodInvoker.invoke(CountingConstructor.class, "greet", second).getObject()).isEqualTo("bye");
+    }
+
     @Test
     void givenNoArgsMethodThenShouldInvokeMethod() {
         SimpleMethod simpleMethod = new SimpleMethod();
@@ -151,6 +219,33 @@ class StrictMethodInvokerTest {
         assertThat(retMyName.getObject()).isEqualTo("school1name1");
     }
 
+    @Test
+    void givenContextsOfSameShapeThenUseValuesOfEachContext() {
+        ParameterMethod parameterMethod = new ParameterMethod();
+        for (int i = 0; i < 3; i++) {
+            SingleLevelContext context = new SingleLevelContext();
+            context.add("school", new TypeDescribableObject("school" + i));
+            context.add("name", new TypeDescribableObject("name" + i));
+
+            TypeDescribableObject retMyName = methodInvoker.invoke(parameterMethod, "myName", context);
+            assertThat(retMyName.getObject()).isEqualTo("school" + i + "name" + i);
+        }
+    }
+
+    @Test
+    void givenContextShapeChangedThenResolveMethodAgain() {
+        OptionalContainsClass optionalContainsClass = new OptionalContainsClass();
+        SingleLevelContext context = new SingleLevelContext();
+        context.addOptionalParameter("age");
+        context.add("school", new TypeDescribableObject("school1"));
+        assertThat(methodInvoker.invoke(optionalContainsClass, "myName", context).getObject())
+                .isEqualTo("school1");
+
+        context.add("age", new TypeDescribableObject(3));
+        assertThat(methodInvoker.invoke(optionalContainsClass, "myName", context).getObject())
+                .isEqualTo("school13");
+    }
+
     static class Consumer {
         public String run(List<ConsumerDto> dto) {
             return "run";
@@ -202,10 +297,36 @@ class StrictMethodInvokerTest {
         }
     }
 
+    public static class CountingConstructor {
+        static int created;
+
+        public CountingConstructor() {
+            created++;
+        }
+
+        public String greet(String name) {
+            return name;
+        }
+    }
+
     static class ExceptionTestMethod {
         public String call() {
             throw new MyException("hi");
         }
+
+        public String checked() throws IOException {
+            throw new IOException("checked");
+        }
+
+        public String error() {
+            throw new MyError("error");
+        }
+    }
+
+    static class MyError extends Error {
+        public MyError(String message) {
+            super(message);
+        }
     }
 
     static class MyException extends RuntimeException {
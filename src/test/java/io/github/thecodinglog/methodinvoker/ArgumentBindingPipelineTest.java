@@ -0,0 +1,93 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class ArgumentBindingPipelineTest {
+    @Test
+    void givenDefaultsThenStrategiesInOrder() {
+        assertThat(ArgumentBindingPipeline.defaults().strategies())
+                .extracting(s -> s.getClass().getSimpleName())
+                .containsExactly("ParameterQualifierMethodArgumentBindingStrategy",
+                        "ParameterNameMethodArgumentBindingStrategy",
+                        "ParameterTypeMethodArgumentBindingStrategy",
+                        "ParameterNameAndJsonMethodArgumentBindingStrategy",
+                        "OptionalMethodArgumentBindingStrategy");
+    }
+
+    @Test
+    void givenWithoutJsonThenJsonStringNotBound() throws NoSuchMethodException {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("point", new TypeDescribableObject("{\"x\":1}"));
+        Method method = Target.class.getMethod("move", Point.class);
+
+        MethodArgumentBinder withJson = new TypeMatchableMethodArgumentBinder();
+        MethodArgumentBinder withoutJson = new TypeMatchableMethodArgumentBinder(ArgumentBindingPipeline.defaults()
+                .without(ParameterNameAndJsonMethodArgumentBindingStrategy.class));
+
+        assertThat(withJson.bind(new MethodOrConstructor(method), context)).isNotNull();
+        assertThat(withoutJson.bind(new MethodOrConstructor(method), context)).isNull();
+        assertThat(ArgumentBindingPipeline.defaults().strategies()).hasSize(5);
+    }
+
+    @Test
+    void givenStrategyAddedBeforeThenTriedBefore() throws NoSuchMethodException {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("context"));
+        MethodArgumentBindingStrategy fixed = (holder, ctx) -> {
+            holder.accept(new TypeDescribableObject("fixed"));
+            return BindingStatus.BOUND;
+        };
+        MethodArgumentBinder binder = new TypeMatchableMethodArgumentBinder(ArgumentBindingPipeline.defaults()
+                .withBefore(ParameterNameMethodArgumentBindingStrategy.class, fixed));
+
+        PrioritizableMethodOrConstructorHolder bound =
+                binder.bind(new MethodOrConstructor(Target.class.getMethod("greet", String.class)), context);
+        assertThat(bound.args()).containsExactly("fixed");
+        assertThat(InvocationPlan.of(bound, new ReflectionInvocationEngine())).isNull();
+    }
+
+    @Test
+    void givenFailedStatusThenNextStrategyNotTried() throws NoSuchMethodException {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("context"));
+        MethodArgumentBinder binder = new TypeMatchableMethodArgumentBinder(ArgumentBindingPipeline.of(
+                (holder, ctx) -> BindingStatus.FAILED,
+                new ParameterNameMethodArgumentBindingStrategy()));
+
+        assertThat(binder.bind(new MethodOrConstructor(Target.class.getMethod("greet", String.class)), context))
+                .isNull();
+    }
+
+    @Test
+    void givenInvalidArgumentsThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ArgumentBindingPipeline.of((MethodArgumentBindingStrategy) null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ArgumentBindingPipeline.of(new ParameterNameMethodArgumentBindingStrategy())
+                        .withBefore(OptionalMethodArgumentBindingStrategy.class,
+                                new OptionalMethodArgumentBindingStrategy()));
+    }
+
+    static class Target {
+        public String greet(String name) {
+            return name;
+        }
+
+        public int move(Point point) {
+            return point.x;
+        }
+    }
+
+    static class Point {
+        public int x;
+    }
+}
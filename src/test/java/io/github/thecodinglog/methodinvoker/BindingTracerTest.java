@@ -0,0 +1,112 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class BindingTracerTest {
+    @AfterEach
+    void tearDown() {
+        BindingTracer.disable();
+        BindingTracer.clear();
+    }
+
+    @Test
+    void givenDisabledThenRecordNothing() {
+        BindingTracer.clear();
+        new StrictMethodInvoker().invoke(new Target(), "call", context());
+
+        assertThat(BindingTracer.isEnabled()).isFalse();
+        assertThat(BindingTracer.dump()).isEmpty();
+    }
+
+    @Test
+    void givenEnabledThenRecordCandidatesStrategiesAndSelection() {
+        BindingTracer.enable();
+        new StrictMethodInvoker().invoke(new Target(), "call", context());
+
+        List<String> dump = BindingTracer.dump();
+        assertThat(dump).anyMatch(line -> line.contains("Try binding for [")
+                && line.contains("call(java.lang.String)]"));
+        assertThat(dump).anyMatch(line -> line.contains("Strategy [ParameterNameMethodArgumentBindingStrategy]")
+                && line.contains("Param name [name]") && line.endsWith(": BOUND"));
+        assertThat(dump).anyMatch(line -> line.contains("Strategy [ParameterQualifierMethodArgumentBindingStrategy]")
+                && line.endsWith(": SKIPPED"));
+        assertThat(dump.get(dump.size() - 1)).contains("Selected [").contains("call(java.lang.String)");
+        assertThat(dump.get(0)).startsWith("+0ns ");
+    }
+
+    @Test
+    void givenUnboundParameterThenRecordIt() {
+        BindingTracer.enable();
+        try {
+            new StrictMethodInvoker().invoke(new Target(), "other", context());
+        } catch (RuntimeException ignored) {
+        }
+
+        assertThat(BindingTracer.dump()).anyMatch(line -> line.contains("Can't bind parameter [count][int]"));
+    }
+
+    @Test
+    void givenMoreEventsThanCapacityThenKeepTheLatest() {
+        BindingTracer.enable();
+        for (int i = 0; i < BindingTracer.CAPACITY; i++) {
+            BindingTracer.candidate(Target.class.getMethods()[0]);
+        }
+        BindingTracer.selected(Target.class.getMethods()[0]);
+
+        List<String> dump = BindingTracer.dump();
+        assertThat(dump).hasSize(BindingTracer.CAPACITY);
+        assertThat(dump.get(dump.size() - 1)).contains("Selected [");
+    }
+
+    @Test
+    void givenDisabledByOtherThreadThenDiscardEventsOfThisThread() throws InterruptedException {
+        BindingTracer.enable();
+        new StrictMethodInvoker().invoke(new Target(), "call", context());
+        assertThat(BindingTracer.dump()).isNotEmpty();
+
+        Thread other = new Thread(BindingTracer::disable);
+        other.start();
+        other.join();
+
+        assertThat(BindingTracer.dump()).isEmpty();
+    }
+
+    @Test
+    void givenConstructorParameterThenDescribeItFromConstructor() throws NoSuchMethodException {
+        BindingTracer.enable();
+        BindingTracer.unbound(Named.class.getConstructor(List.class), 0);
+
+        assertThat(BindingTracer.dump()).anyMatch(line ->
+                line.contains("Can't bind parameter [names][java.util.List<java.lang.String>]"));
+    }
+
+    private Context context() {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("Tom"));
+        return context;
+    }
+
+    public static class Target {
+        public String call(String name) {
+            return name;
+        }
+
+        public String other(int count) {
+            return String.valueOf(count);
+        }
+    }
+
+    public static class Named {
+        public Named(List<String> names) {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class BytecodeInvocationEngineTest {
+    @Test
+    void givenZeroThresholdThenInvokeGeneratedMethod() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        Method method = PublicTarget.class.getMethod("join", String.class, int.class);
+        assertThat(engine.prepare(method).invoke(new PublicTarget(), new Object[]{"a", 1})).isEqualTo("a1");
+    }
+
+    @Test
+    void givenZeroThresholdThenInvokeThroughGeneratedClass() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        Method method = PublicTarget.class.getMethod("caller");
+        assertThat((String) engine.prepare(method).invoke(new PublicTarget(), new Object[0]))
+                .contains("$$FastClassByCGLIB$$");
+    }
+
+    @Test
+    void givenThresholdThenResultIsSameBeforeAndAfterInflation() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(2);
+        InvocationEngine.Invocable invocable =
+                engine.prepare(PublicTarget.class.getMethod("join", String.class, int.class));
+        for (int i = 0; i < 5; i++) {
+            assertThat(invocable.invoke(new PublicTarget(), new Object[]{"a", i})).isEqualTo("a" + i);
+        }
+    }
+
+    @Test
+    void givenStaticMethodThenTargetIsIgnored() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        Method method = PublicTarget.class.getMethod("twice", long.class);
+        assertThat(engine.prepare(method).invoke(null, new Object[]{2L})).isEqualTo(4L);
+    }
+
+    @Test
+    void givenConstructorThenCreateObject() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        Object object = engine.prepare(PublicTarget.class.getConstructor(String.class))
+                .invoke(null, new Object[]{"name"});
+        assertThat(object).isInstanceOf(PublicTarget.class);
+        assertThat(((PublicTarget) object).name).isEqualTo("name");
+    }
+
+    @Test
+    void givenNotPublicClassThenInvokeWithoutGeneration() throws Throwable {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        Method method = PackagePrivateTarget.class.getMethod("name");
+        assertThat(engine.prepare(method).invoke(new PackagePrivateTarget(), new Object[0])).isEqualTo("name");
+    }
+
+    @Test
+    void givenCheckedExceptionInMethodThenThrowItWithoutWrapping() throws NoSuchMethodException {
+        InvocationEngine engine = new BytecodeInvocationEngine(0);
+        InvocationEngine.Invocable invocable = engine.prepare(PublicTarget.class.getMethod("fail"));
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> invocable.invoke(new PublicTarget(), new Object[0]))
+                .withMessage("fail");
+    }
+
+    public static class PublicTarget {
+        public String name;
+
+        public PublicTarget() {
+        }
+
+        public PublicTarget(String name) {
+            this.name = name;
+        }
+
+        public static long twice(long n) {
+            return n * 2;
+        }
+
+        public String join(String s, int n) {
+            return s + n;
+        }
+
+        public String caller() {
+            return new Throwable().getStackTrace()[1].getClassName();
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+
+    static class PackagePrivateTarget {
+        public String name() {
+            return "name";
+        }
+    }
+}
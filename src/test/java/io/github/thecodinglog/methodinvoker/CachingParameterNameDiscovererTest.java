@@ -0,0 +1,53 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class CachingParameterNameDiscovererTest {
+    final CachingParameterNameDiscoverer discoverer = CachingParameterNameDiscoverer.getInstance();
+
+    @Test
+    void givenMethodThenDiscoverParameterNames() throws NoSuchMethodException {
+        Method method = Child.class.getMethod("greet", String.class, int.class);
+        assertThat(discoverer.getParameterNames(method)).containsExactly("name", "age");
+    }
+
+    @Test
+    void givenConstructorThenDiscoverParameterNames() throws NoSuchMethodException {
+        assertThat(discoverer.getParameterNames(Child.class.getConstructor(String.class)))
+                .containsExactly("nickname");
+    }
+
+    @Test
+    void givenInheritedMethodThenDiscoverFromDeclaringClass() throws NoSuchMethodException {
+        Method method = Child.class.getMethod("parentMethod", long.class);
+        assertThat(discoverer.getParameterNames(method)).containsExactly("id");
+    }
+
+    @Test
+    void givenSameMethodThenReuseDiscoveredNames() throws NoSuchMethodException {
+        String[] first = discoverer.getParameterNames(Child.class.getMethod("greet", String.class, int.class));
+        String[] second = discoverer.getParameterNames(Child.class.getMethod("greet", String.class, int.class));
+        assertThat(first).isSameAs(second);
+    }
+
+    static class Parent {
+        public void parentMethod(long id) {
+        }
+    }
+
+    static class Child extends Parent {
+        public Child(String nickname) {
+        }
+
+        public void greet(String name, int age) {
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class ClassLoadingCacheTest {
+    @Test
+    void givenClassNameThenReturnTheSameClassAsForName() throws ClassNotFoundException {
+        ClassLoadingCache cache = new ClassLoadingCache();
+
+        assertThat(cache.forName("java.lang.String")).isSameAs(String.class);
+        assertThat(cache.forName(ClassLoadingCacheTest.class.getName())).isSameAs(ClassLoadingCacheTest.class);
+        assertThat(cache.forName("java.lang.String", null)).isSameAs(String.class);
+    }
+
+    @Test
+    void givenClassLoaderThenLoadThroughTheLoaderOnlyOnce() throws ClassNotFoundException {
+        ClassLoadingCache cache = new ClassLoadingCache();
+        CountingClassLoader loader = new CountingClassLoader();
+
+        assertThat(cache.forName(ClassLoadingCacheTest.class.getName(), loader))
+                .isSameAs(ClassLoadingCacheTest.class);
+        assertThat(cache.forName(ClassLoadingCacheTest.class.getName(), loader))
+                .isSameAs(ClassLoadingCacheTest.class);
+        assertThat(loader.count).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void givenNotFoundClassThenCacheItForTheTtl() {
+        ClassLoadingCache cache = new ClassLoadingCache(1, TimeUnit.HOURS);
+        CountingClassLoader loader = new CountingClassLoader();
+
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", loader));
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", loader))
+                .withMessage("no.Such");
+        assertThat(loader.count).isEqualTo(1);
+    }
+
+    @Test
+    void givenZeroTtlThenNotFoundClassIsNotCached() {
+        ClassLoadingCache cache = new ClassLoadingCache(0, TimeUnit.MILLISECONDS);
+        CountingClassLoader loader = new CountingClassLoader();
+
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", loader));
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", loader));
+        assertThat(loader.count).isEqualTo(2);
+    }
+
+    @Test
+    void givenOtherClassLoaderThenNotFoundIsNotShared() {
+        ClassLoadingCache cache = new ClassLoadingCache(1, TimeUnit.HOURS);
+        CountingClassLoader loader = new CountingClassLoader();
+        CountingClassLoader other = new CountingClassLoader();
+
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", loader));
+        assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> cache.forName("no.Such", other));
+        assertThat(loader.count).isEqualTo(1);
+        assertThat(other.count).isEqualTo(1);
+    }
+
+    @Test
+    void givenNegativeTtlThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                new ClassLoadingCache(-1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenClassLoaderThenObjectFactoryCreatesObjectOfTheClass() {
+        ObjectFactory objectFactory = new DefaultObjectFactory();
+
+        Object object = objectFactory.createObject(HasDefaultConstructorOnlyTest.DefaultConstructorOnly.class.getName(),
+                new CountingClassLoader(), null);
+
+        assertThat(object).isInstanceOf(HasDefaultConstructorOnlyTest.DefaultConstructorOnly.class);
+    }
+
+    static class CountingClassLoader extends ClassLoader {
+        int count;
+
+        CountingClassLoader() {
+            super(ClassLoadingCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            count++;
+            return super.loadClass(name, resolve);
+        }
+    }
+}
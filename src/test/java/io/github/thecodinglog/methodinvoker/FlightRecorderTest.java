@@ -0,0 +1,30 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class FlightRecorderTest {
+    @Test
+    void givenJava8VersionThenRecordNothing() throws NoSuchMethodException {
+        assertThat(FlightRecorder.beginResolution()).isNull();
+        assertThat(FlightRecorder.beginBinding()).isNull();
+        assertThat(FlightRecorder.beginInvocation()).isNull();
+
+        assertThatCode(() -> {
+            FlightRecorder.endResolution(null, Target.class, "call", 1, Target.class.getMethod("call"), null);
+            FlightRecorder.endBinding(null, Target.class.getMethod("call"), 0);
+            FlightRecorder.endInvocation(null, new Target(), Target.class.getMethod("call"), false);
+        }).doesNotThrowAnyException();
+    }
+
+    public static class Target {
+        public void call() {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class InvocationPlanCacheTest {
+    final MethodResolver resolver = new StrictMethodResolver(
+            new PublicCandidateMethodsSelector(),
+            new TypeMatchableMethodArgumentBinder(),
+            new HighestPriorityPicker());
+    final InvocationEngine engine = new ReflectionInvocationEngine();
+    final InvocationPlanCache<InvocationPlan> cache = new InvocationPlanCache<>();
+
+    @Test
+    void givenSameShapeThenReplayPlanWithNewValues() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("a"));
+        context.add("age", new TypeDescribableObject(1));
+        InvocationPlan plan = InvocationPlan.of(resolver.resolve(Greeter.class, "greet", context), engine);
+        cache.put(Greeter.class, "greet", context, plan);
+
+        SingleLevelContext next = new SingleLevelContext();
+        next.add("name", new TypeDescribableObject("b"));
+        next.add("age", new TypeDescribableObject(2));
+        InvocationPlan found = cache.find(Greeter.class, "greet", next);
+
+        assertThat(found).isSameAs(plan);
+        assertThat(found.method().getParameterCount()).isEqualTo(2);
+        assertThat(found.arguments(next)).containsExactly("b", 2);
+    }
+
+    @Test
+    void givenDifferentShapeThenNoPlan() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("a"));
+        cache.put(Greeter.class, "greet", context,
+                InvocationPlan.of(resolver.resolve(Greeter.class, "greet", context), engine));
+
+        SingleLevelContext otherType = new SingleLevelContext();
+        otherType.add("name", new TypeDescribableObject(1));
+        assertThat(cache.find(Greeter.class, "greet", otherType)).isNull();
+
+        context.add("age", new TypeDescribableObject(1));
+        assertThat(cache.find(Greeter.class, "greet", context)).isNull();
+        assertThat(cache.find(Greeter.class, "other", context)).isNull();
+    }
+
+    @Test
+    void givenOptionalParameterThenShapeDiffers() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("a"));
+        ContextShape before = context.shape();
+        context.addOptionalParameter("age");
+
+        assertThat(context.shape()).isNotEqualTo(before);
+    }
+
+    @Test
+    void givenContextWithoutShapeThenNotCached() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject("a"));
+        Context mockContext = mock(Context.class);
+        cache.put(Greeter.class, "greet", mockContext,
+                InvocationPlan.of(resolver.resolve(Greeter.class, "greet", context), engine));
+
+        assertThat(cache.find(Greeter.class, "greet", mockContext)).isNull();
+    }
+
+    @Test
+    void givenJsonBoundArgumentThenNoPlan() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("point", new TypeDescribableObject("{\"x\":1}"));
+
+        assertThat(InvocationPlan.of(resolver.resolve(Greeter.class, "move", context), engine)).isNull();
+    }
+
+    @Test
+    void givenTypeBoundArgumentThenReplayByResolvedKey() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("value", new TypeDescribableObject(1));
+        InvocationPlan plan = InvocationPlan.of(resolver.resolve(Greeter.class, "count", context), engine);
+
+        TypeLookupCountingContext next = new TypeLookupCountingContext();
+        next.add("value", new TypeDescribableObject(2));
+
+        assertThat(plan.arguments(next)).containsExactly(2);
+        assertThat(next.lookups).isZero();
+    }
+
+    @Test
+    void givenParentKeyHiddenByLayerThenNoResolvedKey() {
+        SingleLevelContext parent = new SingleLevelContext();
+        parent.add("amount", new TypeDescribableObject(1));
+        parent.add("total", new TypeDescribableObject(2L));
+        LayeredContext context = new LayeredContext(parent);
+        context.add("amount", new TypeDescribableObject("one"));
+
+        assertThat(context.lookupByType(Long.class).key()).isEqualTo("total");
+        assertThat(context.lookupByType(Integer.class).key()).isNull();
+    }
+
+    static class TypeLookupCountingContext extends SingleLevelContext {
+        int lookups;
+
+        @Override
+        public TypeLookup lookupByType(Type type) {
+            lookups++;
+            return super.lookupByType(type);
+        }
+    }
+
+    static class Greeter {
+        public String greet(String name) {
+            return name;
+        }
+
+        public String greet(String name, Integer age) {
+            return name + age;
+        }
+
+        public int count(Integer amount) {
+            return amount;
+        }
+
+        public int move(Point point) {
+            return point.x;
+        }
+    }
+
+    static class Point {
+        public int x;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.thecodinglog.methodinvoker;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class JsonArgumentReaderTest {
+    final JsonArgumentReader reader = JsonArgumentReader.shared();
+
+    @Test
+    void givenGenericTypeThenReadWithTypeArguments() {
+        Object read = reader.read("[{\"a\":1}]", new TypeReference<List<Map<String, Integer>>>() {
+        }.getType());
+        assertThat(read).asList().hasSize(1);
+        assertThat(((List<?>) read).get(0)).isInstanceOf(Map.class);
+    }
+
+    @Test
+    void givenLeadingWhitespaceThenRead() {
+        assertThat(reader.read("  12", Integer.class)).isEqualTo(12);
+    }
+
+    @Test
+    void givenNotJsonStringThenNull() {
+        assertThat(reader.read("hello", String.class)).isNull();
+        assertThat(reader.read("", String.class)).isNull();
+        assertThat(reader.read("   ", Integer.class)).isNull();
+    }
+
+    @Test
+    void givenMismatchedJsonThenNull() {
+        assertThat(reader.read("{\"a\":1}", Integer.class)).isNull();
+    }
+
+    @Test
+    void givenMapperAllowingSingleQuotesThenAcceptSingleQuotedString() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        JsonArgumentReader singleQuotes = new JsonArgumentReader(objectMapper);
+
+        assertThat(singleQuotes.read("'text'", String.class)).isEqualTo("text");
+        assertThat(reader.read("'text'", String.class)).isNull();
+    }
+
+    @Test
+    void givenReadFeatureOfBuilderThenAcceptItsLeadingCharacter() {
+        JsonArgumentReader nonNumericNumbers = new JsonArgumentReader(JsonMapper.builder()
+                .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS).build());
+
+        assertThat(nonNumericNumbers.read("NaN", Double.class)).isEqualTo(Double.NaN);
+        assertThat(reader.read("NaN", Double.class)).isNull();
+    }
+
+    @Test
+    void givenTypeThenOwnerIsTheClassSeeingAllOthers() throws NoSuchMethodException {
+        assertThat(JsonArgumentReader.ownerOf(String.class)).isSameAs(String.class);
+        assertThat(JsonArgumentReader.ownerOf(Item[].class)).isSameAs(Item.class);
+        assertThat(JsonArgumentReader.ownerOf(new TypeReference<Map<String, List<Item>>>() {
+        }.getType())).isSameAs(Item.class);
+        assertThat(JsonArgumentReader.ownerOf(
+                Item.class.getMethod("first", List.class).getGenericParameterTypes()[0])).isNull();
+    }
+
+    static class Item {
+        public <T> T first(List<T> values) {
+            return values.get(0);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class MethodHandleInvocationEngineTest {
+    final InvocationEngine engine = new MethodHandleInvocationEngine();
+
+    @Test
+    void givenInstanceMethodThenInvokeWithSpreadArguments() throws Throwable {
+        Method method = Target.class.getMethod("join", String.class, int.class);
+        Object result = engine.prepare(method).invoke(new Target(), new Object[]{"a", 1});
+        assertThat(result).isEqualTo("a1");
+    }
+
+    @Test
+    void givenStaticMethodThenTargetIsIgnored() throws Throwable {
+        Method method = Target.class.getMethod("twice", long.class);
+        Object result = engine.prepare(method).invoke(null, new Object[]{2L});
+        assertThat(result).isEqualTo(4L);
+    }
+
+    @Test
+    void givenVoidMethodThenReturnNull() throws Throwable {
+        Method method = Target.class.getMethod("nothing");
+        assertThat(engine.prepare(method).invoke(new Target(), new Object[0])).isNull();
+    }
+
+    @Test
+    void givenVarargsMethodThenPassArrayAsIs() throws Throwable {
+        Method method = Target.class.getMethod("count", String[].class);
+        Object result = engine.prepare(method).invoke(new Target(), new Object[]{new String[]{"a", "b"}});
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void givenConstructorThenCreateObject() throws Throwable {
+        Object object = engine.prepare(Target.class.getDeclaredConstructor()).invoke(null, new Object[0]);
+        assertThat(object).isInstanceOf(Target.class);
+    }
+
+    @Test
+    void givenSameMethodThenReusePreparedMethod() throws NoSuchMethodException {
+        InvocationEngine.Invocable first = engine.prepare(Target.class.getMethod("nothing"));
+        InvocationEngine.Invocable second = engine.prepare(Target.class.getMethod("nothing"));
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void givenCheckedExceptionInMethodThenThrowItWithoutWrapping() throws NoSuchMethodException {
+        Method method = Target.class.getMethod("fail");
+        InvocationEngine.Invocable invocable = engine.prepare(method);
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> invocable.invoke(new Target(), new Object[0]))
+                .withMessage("fail");
+    }
+
+    static class Target {
+        public static long twice(long n) {
+            return n * 2;
+        }
+
+        public String join(String s, int n) {
+            return s + n;
+        }
+
+        public void nothing() {
+        }
+
+        public int count(String... values) {
+            return values.length;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+}
@@ -111,6 +111,22 @@ class PublicCandidateMethodsSelectorTest {
         assertThat(resolve[3].getName()).isEqualTo("method1");
     }
 
+    @Test
+    void givenOverloadedMethodThenSortedByParameterLengthDescending() {
+        Method[] resolve = resolver.select(OverloadedMethods.class, "method1");
+        assertThat(resolve).extracting(Method::getParameterCount).containsExactly(3, 2, 1, 0);
+    }
+
+    @Test
+    void givenSelectedMethodsModifiedThenNextSelectionNotAffected() {
+        Method[] first = resolver.select(OverloadedMethods.class, "method1");
+        first[0] = null;
+
+        Method[] second = resolver.select(OverloadedMethods.class, "method1");
+        assertThat(second).doesNotContainNull();
+        assertThat(second).isNotSameAs(first);
+    }
+
     @Test
     void givenOverloadedMethodWithMethodQualifierThenReturnQualifiedNameOfMethod() {
         Method[] resolve = resolver.select(OverloadedMethodsWithQualifierOnMethod.class, "myMyMethod");
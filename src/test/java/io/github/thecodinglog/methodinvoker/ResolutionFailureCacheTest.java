@@ -0,0 +1,132 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.exceptions.MethodInvokeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class ResolutionFailureCacheTest {
+    @Test
+    void givenFailureThenFindItForSameShape() {
+        ResolutionFailureCache cache = new ResolutionFailureCache();
+        cache.putMethodFailure(Target.class, "call", context("a"), "failed");
+
+        assertThat(cache.findMethodFailure(Target.class, "call", context("b"))).isEqualTo("failed");
+        assertThat(cache.findMethodFailure(Target.class, "other", context("b"))).isNull();
+        assertThat(cache.findConstructorFailure(Target.class, context("b"))).isNull();
+        assertThat(cache.findMethodFailure(Target.class, "call", null)).isNull();
+    }
+
+    @Test
+    void givenExpiredFailureThenNotFound() {
+        ResolutionFailureCache cache = new ResolutionFailureCache(8, 1, TimeUnit.NANOSECONDS);
+        cache.putConstructorFailure(Target.class, null, "failed");
+
+        assertThat(cache.findConstructorFailure(Target.class, null)).isNull();
+    }
+
+    @Test
+    void givenFullCacheThenNewFailureIsNotCached() {
+        ResolutionFailureCache cache = new ResolutionFailureCache(1, 1, TimeUnit.HOURS);
+        cache.putMethodFailure(Target.class, "first", null, "first");
+        cache.putMethodFailure(Target.class, "second", null, "second");
+
+        assertThat(cache.findMethodFailure(Target.class, "first", null)).isEqualTo("first");
+        assertThat(cache.findMethodFailure(Target.class, "second", null)).isNull();
+    }
+
+    @Test
+    void givenInvalidatedClassThenFailuresAreDiscarded() {
+        ResolutionFailureCache cache = new ResolutionFailureCache();
+        cache.putMethodFailure(Target.class, "call", null, "failed");
+        cache.invalidate(Target.class);
+
+        assertThat(cache.findMethodFailure(Target.class, "call", null)).isNull();
+    }
+
+    @Test
+    void givenSameFailureThenInvokerReplaysItWithoutBinding() {
+        StrictMethodInvoker invoker = new StrictMethodInvoker();
+        CountingContext first = new CountingContext();
+        first.add("wrong", new TypeDescribableObject(1));
+        CountingContext second = new CountingContext();
+        second.add("wrong", new TypeDescribableObject(2));
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                invoker.invoke(new Target(), "call", first));
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                invoker.invoke(new Target(), "call", second))
+                .withMessageContaining("Method[call]")
+                .withCauseInstanceOf(MethodNotFoundException.class);
+        assertThat(first.lookups).isPositive();
+        assertThat(second.lookups).isZero();
+
+        invoker.invalidate(Target.class);
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                invoker.invoke(new Target(), "call", second));
+        assertThat(second.lookups).isPositive();
+    }
+
+    @Test
+    void givenStrategyWithoutSourceThenFailureIsNotCached() {
+        MethodArgumentBindingStrategy byValue = (holder, ctx) -> {
+            TypeDescribableObject value = ctx.getValueByKey("wrong");
+            if (!holder.getParameterName().equals("first") || !Integer.valueOf(1).equals(value.getObject()))
+                return BindingStatus.SKIPPED;
+            holder.accept(new TypeDescribableObject("first"));
+            return BindingStatus.BOUND;
+        };
+        StrictMethodInvoker invoker = new StrictMethodInvoker(new BytecodeInvocationEngine(),
+                ArgumentBindingPipeline.defaults().withBefore(ParameterNameMethodArgumentBindingStrategy.class,
+                        byValue), new ClassLoadingCache());
+        CountingContext first = new CountingContext();
+        first.add("wrong", new TypeDescribableObject(1));
+        CountingContext second = new CountingContext();
+        second.add("wrong", new TypeDescribableObject(2));
+
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                invoker.invoke(new Target(), "pair", first));
+        assertThatExceptionOfType(MethodInvokeException.class).isThrownBy(() ->
+                invoker.invoke(new Target(), "pair", second));
+        assertThat(second.lookups).isPositive();
+    }
+
+    @Test
+    void givenNegativeSizeThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                new ResolutionFailureCache(-1, 1, TimeUnit.SECONDS));
+    }
+
+    private Context context(String value) {
+        Context context = new SingleLevelContext();
+        context.add("name", new TypeDescribableObject(value));
+        return context;
+    }
+
+    static class CountingContext extends SingleLevelContext {
+        int lookups;
+
+        @Override
+        public boolean hasKey(String key) {
+            lookups++;
+            return super.hasKey(key);
+        }
+    }
+
+    public static class Target {
+        public String call(String name) {
+            return name;
+        }
+
+        public String pair(String first, String second) {
+            return first + second;
+        }
+    }
+}
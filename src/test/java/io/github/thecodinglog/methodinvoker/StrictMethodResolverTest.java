@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.annotation.*;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +50,14 @@ class StrictMethodResolverTest {
         assertThat(sayHello.args()).hasSize(1);
     }
 
+    @Test
+    void givenMethodWithParametersAndNullContextThenThrowsMethodNotFoundException() {
+        assertThatExceptionOfType(MethodNotFoundException.class)
+                .isThrownBy(() -> resolver.resolve(OneArgClass.class, "sayHello", null))
+                .withMessage("Args exist but no context exists.")
+                .withCauseInstanceOf(MethodBindingException.class);
+    }
+
     @Test
     void givenOrdinaryClassAndAskWrongNameOfMethodThenThrowsException() {
         Context mockContext = mock(Context.class);
@@ -184,10 +193,58 @@ class StrictMethodResolverTest {
         assertThat(call2.args()).hasSize(1);
     }
 
+    @Test
+    void givenJsonArrayStringThenConvertToGenericParameterType() throws NoSuchMethodException {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("paramObjects", new TypeDescribableObject("[{\"id\":\"3\"},{\"id\":\"4\"}]"));
+        PrioritizableMethodOrConstructorHolder call = resolver.resolve(PojoParamMethodClass.class, "callAll", context);
+        assertThat(call.method()).isEqualTo(PojoParamMethodClass.class.getMethod("callAll", List.class));
+        assertThat((List<?>) call.args()[0]).hasSize(2).allMatch(o -> o instanceof ParamObject);
+    }
+
+    @Test
+    void givenNotJsonStringThenNotConvert() {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("paramObject", new TypeDescribableObject("id=3"));
+        assertThatExceptionOfType(MethodNotFoundException.class)
+                .isThrownBy(() -> resolver.resolve(PojoParamMethodClass.class, "call", context));
+    }
+
+    @Test
+    void givenInterfaceOverloadsThenSelectClosestInterface() throws NoSuchMethodException {
+        SingleLevelContext context = new SingleLevelContext();
+        context.add("value", new TypeDescribableObject("text"));
+        PrioritizableMethodOrConstructorHolder text = resolver.resolve(InterfaceOverloads.class, "text", context);
+        assertThat(text.method()).isEqualTo(InterfaceOverloads.class.getMethod("text", CharSequence.class));
+
+        context.add("value", new TypeDescribableObject(new ArrayList<>(), new TypeReference<ArrayList<String>>() {
+        }));
+        PrioritizableMethodOrConstructorHolder list = resolver.resolve(InterfaceOverloads.class, "list", context);
+        assertThat(list.method()).isEqualTo(InterfaceOverloads.class.getMethod("list", List.class));
+    }
+
+    static class InterfaceOverloads {
+        public void text(Object value) {
+        }
+
+        public void text(CharSequence value) {
+        }
+
+        public void list(Collection<String> value) {
+        }
+
+        public void list(List<String> value) {
+        }
+    }
+
     static class PojoParamMethodClass {
         public void call(ParamObject paramObject) {
 
         }
+
+        public void callAll(List<ParamObject> paramObjects) {
+
+        }
     }
 
     static class ParamObject {
@@ -309,4 +366,10 @@ class StrictMethodResolverTest {
 
         }
     }
-}
\ No newline at end of file
+
+    static class OneArgClass {
+        public void sayHello(String name) {
+
+        }
+    }
+}
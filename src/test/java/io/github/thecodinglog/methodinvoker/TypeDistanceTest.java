@@ -0,0 +1,39 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class TypeDistanceTest {
+    @Test
+    void givenSuperClassesAndInterfacesThenShortestDistance() {
+        assertThat(TypeDistance.distance(ArrayList.class, ArrayList.class)).isEqualTo(0);
+        assertThat(TypeDistance.distance(ArrayList.class, AbstractList.class)).isEqualTo(1);
+        assertThat(TypeDistance.distance(ArrayList.class, List.class)).isEqualTo(1);
+        assertThat(TypeDistance.distance(ArrayList.class, Collection.class)).isEqualTo(2);
+        assertThat(TypeDistance.distance(ArrayList.class, Iterable.class)).isEqualTo(3);
+    }
+
+    @Test
+    void givenObjectThenFarthest() {
+        assertThat(TypeDistance.distance(String.class, CharSequence.class)).isEqualTo(1);
+        assertThat(TypeDistance.distance(String.class, Object.class)).isEqualTo(2);
+        assertThat(TypeDistance.distance(List.class, Object.class))
+                .isEqualTo(TypeDistance.maxDistance(List.class));
+    }
+
+    @Test
+    void givenNotSuperTypeThenMinusOne() {
+        assertThat(TypeDistance.distance(String.class, Integer.class)).isEqualTo(-1);
+        assertThat(TypeDistance.distance(Collection.class, List.class)).isEqualTo(-1);
+    }
+}
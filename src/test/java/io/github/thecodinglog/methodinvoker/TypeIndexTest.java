@@ -0,0 +1,44 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class TypeIndexTest {
+    @Test
+    void givenIndexThenWithDoesNotChangeIt() {
+        TypeIndex first = TypeIndex.EMPTY.with("name", new TypeDescribableObject("Tom"));
+        TypeIndex second = first.with("age", new TypeDescribableObject(1));
+
+        assertThat(first.hasType(Number.class)).isFalse();
+        assertThat(second.hasType(Number.class)).isTrue();
+        assertThat(first.lookup(CharSequence.class).value().getObject()).isEqualTo("Tom");
+        assertThat(second.lookup(Object.class).status()).isEqualTo(TypeLookup.Status.AMBIGUOUS);
+    }
+
+    @Test
+    void givenReplacedValueThenIndexedByNewType() {
+        TypeIndex index = TypeIndex.EMPTY.with("value", new TypeDescribableObject("Tom"))
+                .with("value", new TypeDescribableObject(1));
+
+        assertThat(index.hasType(String.class)).isFalse();
+        assertThat(index.lookup(int.class).value().getObject()).isEqualTo(1);
+    }
+
+    @Test
+    void givenWithoutThenKeyIsNotFound() {
+        TypeIndex index = TypeIndex.EMPTY.with("name", new TypeDescribableObject("Tom"))
+                .with("age", new TypeDescribableObject(1));
+        TypeIndex removed = index.without("name");
+
+        assertThat(removed.containsKey("name")).isFalse();
+        assertThat(removed.hasType(String.class)).isFalse();
+        assertThat(removed.lookup(Object.class).value().getObject()).isEqualTo(1);
+        assertThat(index.hasType(String.class)).isTrue();
+        assertThat(removed.without("name")).isSameAs(removed);
+    }
+}
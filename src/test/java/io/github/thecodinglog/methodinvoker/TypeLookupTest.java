@@ -0,0 +1,34 @@
+package io.github.thecodinglog.methodinvoker;
+
+import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class TypeLookupTest {
+    @Test
+    void givenContextWithoutLookupThenLookUpByExceptions() {
+        Context context = mock(Context.class);
+        given(context.hasType(String.class)).willReturn(true);
+        given(context.getOneValueByType(String.class)).willThrow(NoUniqueElementException.class);
+        given(context.hasType(Integer.class)).willReturn(true);
+        given(context.getOneValueByType(Integer.class)).willReturn(new TypeDescribableObject(1));
+
+        assertThat(TypeLookup.of(context, String.class).status()).isEqualTo(TypeLookup.Status.AMBIGUOUS);
+        assertThat(TypeLookup.of(context, Integer.class).value().getObject()).isEqualTo(1);
+        assertThat(TypeLookup.of(context, Long.class).status()).isEqualTo(TypeLookup.Status.MISSING);
+    }
+
+    @Test
+    void internalResolutionExceptionsHaveNoStackTrace() {
+        assertThat(new PriorityPickingException("ambiguous").getStackTrace()).isEmpty();
+        assertThat(new MethodBindingException("no context").getStackTrace()).isEmpty();
+        assertThat(new MethodNotFoundException("not found").getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.thecodinglog.methodinvoker;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class TypeUtilsTest {
+    @Test
+    void givenClassesThenSameResultWithResolvableType() {
+        Class<?>[] classes = {int.class, Integer.class, long.class, Long.class, Number.class, Object.class,
+                String.class, CharSequence.class, Serializable.class, List.class, ArrayList.class,
+                Collection.class, Map.class, HashMap.class, int[].class, Integer[].class, Object[].class,
+                String[].class, void.class, boolean.class, Boolean.class};
+        for (Class<?> lhs : classes) {
+            for (Class<?> rhs : classes) {
+                assertThat(TypeUtils.isAssignable(lhs, rhs))
+                        .as("%s <- %s", lhs, rhs)
+                        .isEqualTo(ResolvableType.forType(lhs).isAssignableFrom(ResolvableType.forType(rhs)));
+            }
+        }
+    }
+
+    @Test
+    void givenGenericTypesThenCheckTypeArgumentsRepeatedly() {
+        Type strings = new TypeReference<List<String>>() {
+        }.getType();
+        Type integers = new TypeReference<ArrayList<Integer>>() {
+        }.getType();
+        Type stringArrayList = new TypeReference<ArrayList<String>>() {
+        }.getType();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(TypeUtils.isAssignable(strings, stringArrayList)).isTrue();
+            assertThat(TypeUtils.isAssignable(strings, integers)).isFalse();
+            assertThat(TypeUtils.isAssignable(List.class, integers)).isTrue();
+        }
+    }
+
+    @Test
+    void givenObjectThenCheckInstance() {
+        assertThat(TypeUtils.isInstance(CharSequence.class, "a")).isTrue();
+        assertThat(TypeUtils.isInstance(int.class, 1)).isTrue();
+        assertThat(TypeUtils.isInstance(String.class, 1)).isFalse();
+        assertThat(TypeUtils.isInstance(String.class, null)).isFalse();
+    }
+}
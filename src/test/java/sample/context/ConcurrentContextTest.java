@@ -0,0 +1,146 @@
+package sample.context;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class ConcurrentContextTest {
+    @Test
+    void givenValuesThenFindByKeyAndType() {
+        ConcurrentContext context = new ConcurrentContext();
+        context.add("a", new TypeDescribableObject(1));
+        context.add("b", new TypeDescribableObject(2L));
+        context.add("names", new TypeDescribableObject(new String[]{"a"}));
+
+        assertThat(context.getValueByKey("a").getObject()).isEqualTo(1);
+        assertThat(context.getOneValueByType(int.class).getObject()).isEqualTo(1);
+        assertThat(context.hasType(Object[].class)).isTrue();
+        assertThat(context.lookupByType(String.class).status()).isEqualTo(TypeLookup.Status.MISSING);
+        assertThatExceptionOfType(NoUniqueElementException.class)
+                .isThrownBy(() -> context.getOneValueByType(Number.class));
+    }
+
+    @Test
+    void givenSameKeyAddedAgainThenOldTypeIsNotIndexed() {
+        ConcurrentContext context = new ConcurrentContext();
+        context.add("a", new TypeDescribableObject(1));
+        context.add("a", new TypeDescribableObject("text"));
+
+        assertThat(context.hasType(Integer.class)).isFalse();
+        assertThat(context.getOneValueByType(CharSequence.class).getObject()).isEqualTo("text");
+        assertThat(context.shape().size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenSnapshotThenLaterValuesAreNotSeen() {
+        ConcurrentContext context = new ConcurrentContext();
+        context.add("a", new TypeDescribableObject(1));
+        context.addOptionalParameter("b");
+        Context snapshot = context.snapshot();
+        context.add("b", new TypeDescribableObject(2L));
+
+        assertThat(snapshot.hasKey("b")).isFalse();
+        assertThat(snapshot.hasType(Number.class)).isTrue();
+        assertThat(snapshot.optionalParameters()).containsExactly("b");
+        assertThat(snapshot.shape()).isNotEqualTo(context.shape());
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() ->
+                snapshot.add("c", new TypeDescribableObject("c")));
+    }
+
+    @Test
+    void givenConcurrentAddsThenReadsSeeConsistentIndex() throws Exception {
+        ConcurrentContext context = new ConcurrentContext();
+        context.add("name", new TypeDescribableObject("name"));
+        int writers = 4;
+        int valuesPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < valuesPerWriter; i++) {
+                        context.add("value" + writer + "-" + i, new TypeDescribableObject(i));
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < 2; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        Context snapshot = context.snapshot();
+                        for (String key : Arrays.asList("value0-0", "value1-0")) {
+                            if (snapshot.hasKey(key))
+                                assertThat(snapshot.hasType(Integer.class)).isTrue();
+                        }
+                        assertThat(context.getOneValueByType(String.class).getObject()).isEqualTo("name");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures.subList(0, writers)) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(context.shape().size()).isEqualTo(writers * valuesPerWriter + 1);
+        assertThat(context.lookupByType(Integer.class).status()).isEqualTo(TypeLookup.Status.AMBIGUOUS);
+        for (int w = 0; w < writers; w++) {
+            assertThat(context.getValueByKey("value" + w + "-" + (valuesPerWriter - 1)).getObject())
+                    .isEqualTo(valuesPerWriter - 1);
+        }
+    }
+
+    @Test
+    void givenSharedContextThenInvokeFromManyThreads() throws Exception {
+        ConcurrentContext context = new ConcurrentContext();
+        context.add("greeting", new TypeDescribableObject("hello"));
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TypeDescribableObject>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> methodInvoker.invoke(Greeter.class, "greet", context)));
+            }
+            for (Future<TypeDescribableObject> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS).getObject()).isEqualTo("hello!");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class Greeter {
+        public String greet(String greeting) {
+            return greeting + "!";
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package sample.context;
+
+import io.github.thecodinglog.methodinvoker.*;
+import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class LayeredContextTest {
+    @Test
+    void givenKeyInBothLayersThenNearestWins() {
+        TypeIndexedContext parent = new TypeIndexedContext();
+        parent.add("a", new TypeDescribableObject("parent"));
+        parent.add("b", new TypeDescribableObject(1));
+        LayeredContext context = new LayeredContext(parent);
+        context.add("a", new TypeDescribableObject("child"));
+
+        assertThat(context.getValueByKey("a").getObject()).isEqualTo("child");
+        assertThat(context.getValueByKey("b").getObject()).isEqualTo(1);
+        assertThat(context.hasKey("b")).isTrue();
+        assertThat(context.hasKey("c")).isFalse();
+        assertThat(parent.getValueByKey("a").getObject()).isEqualTo("parent");
+    }
+
+    @Test
+    void givenTypeInOwnLayerThenItHidesParentValues() {
+        TypeIndexedContext parent = new TypeIndexedContext();
+        parent.add("a", new TypeDescribableObject(1));
+        parent.add("b", new TypeDescribableObject(2L));
+        LayeredContext context = new LayeredContext(parent);
+
+        assertThatExceptionOfType(NoUniqueElementException.class)
+                .isThrownBy(() -> context.getOneValueByType(Number.class));
+        assertThat(context.getOneValueByType(Integer.class).getObject()).isEqualTo(1);
+
+        context.add("c", new TypeDescribableObject(3.0));
+        assertThat(context.getOneValueByType(Number.class).getObject()).isEqualTo(3.0);
+        assertThat(context.lookupByType(String.class).status()).isEqualTo(TypeLookup.Status.MISSING);
+        assertThat(context.hasType(Long.class)).isTrue();
+    }
+
+    @Test
+    void givenOptionalParametersThenMergeLayers() {
+        SingleLevelContext parent = new SingleLevelContext();
+        parent.addOptionalParameter("a");
+        LayeredContext context = new LayeredContext(parent);
+
+        assertThat(context.optionalParameters()).containsExactly("a");
+        context.addOptionalParameter("b");
+        assertThat(context.optionalParameters()).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void givenSameLayersThenShapesAreEqual() {
+        ConcurrentContext parent = new ConcurrentContext();
+        parent.add("repository", new TypeDescribableObject(new Repository()));
+        LayeredContext first = new LayeredContext(parent);
+        first.add("id", new TypeDescribableObject("1"));
+        LayeredContext second = new LayeredContext(parent);
+        second.add("id", new TypeDescribableObject("2"));
+        SingleLevelContext flat = new SingleLevelContext();
+        flat.add("repository", new TypeDescribableObject(new Repository()));
+        flat.add("id", new TypeDescribableObject("1"));
+
+        assertThat(first.shape()).isEqualTo(second.shape());
+        assertThat(first.shape()).isNotEqualTo(flat.shape());
+        assertThat(first.shape().size()).isEqualTo(2);
+        assertThat(new LayeredContext(parent).shape()).isSameAs(parent.shape());
+
+        ContextShape before = first.shape();
+        parent.add("other", new TypeDescribableObject(1));
+        assertThat(first.shape()).isNotEqualTo(before);
+    }
+
+    @Test
+    void givenLayerOverSharedContextThenInvokeWithValuesOfBoth() {
+        ConcurrentContext shared = new ConcurrentContext();
+        shared.add("repository", new TypeDescribableObject(new Repository()));
+        MethodInvoker methodInvoker = new StrictMethodInvoker();
+
+        for (String id : new String[]{"1", "2"}) {
+            LayeredContext request = new LayeredContext(shared);
+            request.add("id", new TypeDescribableObject(id));
+            assertThat(methodInvoker.invoke(OrderService.class, "find", request).getObject())
+                    .isEqualTo("order-" + id);
+        }
+    }
+
+    @Test
+    void givenNullParentThenThrowException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LayeredContext(null));
+    }
+
+    public static class Repository {
+        public String find(String id) {
+            return "order-" + id;
+        }
+    }
+
+    public static class OrderService {
+        private final Repository repository;
+
+        public OrderService(Repository repository) {
+            this.repository = repository;
+        }
+
+        public String find(String id) {
+            return repository.find(id);
+        }
+    }
+}
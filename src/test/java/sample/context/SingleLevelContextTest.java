@@ -2,6 +2,7 @@ package sample.context;
 
 import io.github.thecodinglog.methodinvoker.SingleLevelContext;
 import io.github.thecodinglog.methodinvoker.TypeDescribableObject;
+import io.github.thecodinglog.methodinvoker.TypeLookup;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +29,18 @@ class SingleLevelContextTest {
         Assertions.assertThatExceptionOfType(NoSuchElementException.class)
                 .isThrownBy(() -> singleLevelContext.getOneValueByType(Integer.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void lookupByTypeReportsStatusWithoutException() {
+        SingleLevelContext singleLevelContext = new SingleLevelContext();
+        singleLevelContext.add("a", new TypeDescribableObject(1, Integer.class));
+        singleLevelContext.add("b", new TypeDescribableObject(2L, Long.class));
+
+        Assertions.assertThat(singleLevelContext.lookupByType(Integer.class).value().getObject()).isEqualTo(1);
+        Assertions.assertThat(singleLevelContext.lookupByType(Number.class).status())
+                .isEqualTo(TypeLookup.Status.AMBIGUOUS);
+        Assertions.assertThat(singleLevelContext.lookupByType(String.class).status())
+                .isEqualTo(TypeLookup.Status.MISSING);
+        Assertions.assertThat(singleLevelContext.lookupByType(String.class).value()).isNull();
+    }
+}
@@ -0,0 +1,112 @@
+package sample.context;
+
+import io.github.thecodinglog.methodinvoker.TypeDescribableObject;
+import io.github.thecodinglog.methodinvoker.TypeIndexedContext;
+import io.github.thecodinglog.methodinvoker.TypeLookup;
+import io.github.thecodinglog.methodinvoker.TypeReference;
+import io.github.thecodinglog.methodinvoker.exceptions.NoUniqueElementException;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Jeongjin Kim
+ * @since 2026-10-18
+ */
+class TypeIndexedContextTest {
+    @Test
+    void typeCheck() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1, Integer.class));
+        assertThat(context.getOneValueByType(Number.class).getObject(Integer.class)).isEqualTo(1);
+        assertThat(context.getOneValueByType(Serializable.class).getObject(Integer.class)).isEqualTo(1);
+        assertThat(context.getOneValueByType(Object.class).getObject(Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void reversedTypeCheck() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1, Number.class));
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> context.getOneValueByType(Integer.class));
+        assertThat(context.hasType(Integer.class)).isFalse();
+    }
+
+    @Test
+    void givenPrimitiveTypeThenMatchWrapperType() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1, Integer.class));
+        context.add("b", new TypeDescribableObject(2L, long.class));
+
+        assertThat(context.getOneValueByType(int.class).getObject()).isEqualTo(1);
+        assertThat(context.getOneValueByType(Long.class).getObject()).isEqualTo(2L);
+    }
+
+    @Test
+    void givenTwoValuesOfTypeThenNoUnique() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1));
+        context.add("b", new TypeDescribableObject(2L));
+
+        assertThat(context.hasType(Number.class)).isTrue();
+        assertThatExceptionOfType(NoUniqueElementException.class)
+                .isThrownBy(() -> context.getOneValueByType(Number.class));
+    }
+
+    @Test
+    void givenGenericTypeThenRefineByTypeArguments() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("strings", new TypeDescribableObject(new ArrayList<>(Arrays.asList("a")),
+                new TypeReference<List<String>>() {
+                }));
+        context.add("integers", new TypeDescribableObject(new ArrayList<>(Arrays.asList(1)),
+                new TypeReference<List<Integer>>() {
+                }));
+
+        TypeDescribableObject found = context.getOneValueByType(new TypeReference<List<String>>() {
+        }.getType());
+        assertThat(found).isSameAs(context.getValueByKey("strings"));
+        assertThatExceptionOfType(NoUniqueElementException.class)
+                .isThrownBy(() -> context.getOneValueByType(List.class));
+    }
+
+    @Test
+    void givenSameKeyAddedAgainThenOldTypeIsNotIndexed() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1));
+        context.add("a", new TypeDescribableObject("text"));
+
+        assertThat(context.hasType(Integer.class)).isFalse();
+        assertThat(context.getOneValueByType(CharSequence.class).getObject()).isEqualTo("text");
+    }
+
+    @Test
+    void givenArrayTypeThenMatchCovariantArray() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(new String[]{"a"}));
+
+        assertThat(context.hasType(Object[].class)).isTrue();
+        assertThat(context.hasType(Object.class)).isTrue();
+        assertThat(context.hasType(Integer[].class)).isFalse();
+    }
+
+    @Test
+    void lookupByTypeReportsStatusWithoutException() {
+        TypeIndexedContext context = new TypeIndexedContext();
+        context.add("a", new TypeDescribableObject(1, Integer.class));
+        context.add("b", new TypeDescribableObject(2L, Long.class));
+
+        assertThat(context.lookupByType(Integer.class).isFound()).isTrue();
+        assertThat(context.lookupByType(Number.class).status()).isEqualTo(TypeLookup.Status.AMBIGUOUS);
+        assertThat(context.lookupByType(String.class).status()).isEqualTo(TypeLookup.Status.MISSING);
+        assertThatExceptionOfType(NoUniqueElementException.class)
+                .isThrownBy(() -> context.lookupByType(Number.class).valueOrThrow());
+    }
+}